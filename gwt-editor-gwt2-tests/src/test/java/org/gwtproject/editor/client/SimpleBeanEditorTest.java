@@ -21,7 +21,9 @@ import org.gwtproject.editor.client.adapters.EditorSource;
 import org.gwtproject.editor.client.adapters.ListEditor;
 import org.gwtproject.editor.client.adapters.OptionalFieldEditor;
 import org.gwtproject.editor.client.adapters.SimpleEditor;
+import org.gwtproject.editor.client.adapters.WindowedListEditor;
 import org.gwtproject.editor.client.annotation.IsDriver;
+import org.gwtproject.editor.client.impl.MultiplexVisitor;
 
 /**
  * Uses the SimpleBeanEditorTest to test core Editor behaviors as generated by
@@ -127,6 +129,15 @@ public class SimpleBeanEditorTest extends GWTTestCase {
   interface ListEditorDriver
       extends SimpleBeanEditorDriver<List<String>, ListEditor<String, SimpleEditor<String>>> {}
 
+  @IsDriver
+  interface WindowedListEditorDriver
+      extends SimpleBeanEditorDriver<
+          List<String>, WindowedListEditor<String, SimpleEditor<String>>> {}
+
+  @IsDriver
+  interface WindowedAddressListEditorDriver
+      extends SimpleBeanEditorDriver<List<Address>, WindowedListEditor<Address, AddressEditor>> {}
+
   class PersonEditorWithAddressEditorView implements Editor<Person> {
     AddressEditorView addressEditor = new AddressEditorView();
     SimpleEditor<String> name = SimpleEditor.of(UNINITIALIZED);
@@ -200,6 +211,20 @@ public class SimpleBeanEditorTest extends GWTTestCase {
   interface PersonEditorWithManagerNameWithDelegateDriver
       extends SimpleBeanEditorDriver<Person, PersonEditorWithManagerNameWithDelegate> {}
 
+  public static class PersonEditorWithLazyAddressEditor implements Editor<Person> {
+    @Lazy AddressEditor addressEditor = new AddressEditor();
+    SimpleEditor<String> name = SimpleEditor.of(UNINITIALIZED);
+  }
+
+  @IsDriver
+  interface PersonEditorWithLazyAddressEditorDriver
+      extends SimpleBeanEditorDriver<Person, PersonEditorWithLazyAddressEditor> {}
+
+  @IsDriver
+  interface PersonListWithDelegatesDriver
+      extends SimpleBeanEditorDriver<
+          List<Person>, ListEditor<Person, PersonEditorWithManagerNameWithDelegate>> {}
+
   class PersonEditorWithMultipleBindings implements Editor<Person> {
     @Editor.Path("address")
     AddressEditorPartOne one = new AddressEditorPartOne();
@@ -356,6 +381,43 @@ public class SimpleBeanEditorTest extends GWTTestCase {
   interface TaggedItemAddressEditorDriver
       extends SimpleBeanEditorDriver<TaggedItem<Address>, TaggedItemAddressEditor> {}
 
+  static class RecordingVisitor extends EditorVisitor {
+    final List<String> log = new ArrayList<String>();
+    private final String prunedPath;
+
+    RecordingVisitor(String prunedPath) {
+      this.prunedPath = prunedPath;
+    }
+
+    @Override
+    public <T> void endVisit(EditorContext<T> ctx) {
+      log.add("endVisit " + ctx.getAbsolutePath());
+    }
+
+    @Override
+    public <T> boolean visit(EditorContext<T> ctx) {
+      log.add("visit " + ctx.getAbsolutePath());
+      return !ctx.getAbsolutePath().equals(prunedPath);
+    }
+  }
+
+  static class HaltingVisitor extends RecordingVisitor {
+    private final String haltedPath;
+
+    HaltingVisitor(String haltedPath) {
+      super(null);
+      this.haltedPath = haltedPath;
+    }
+
+    @Override
+    public <T> boolean visit(EditorContext<T> ctx) {
+      if (ctx.getAbsolutePath().equals(haltedPath)) {
+        ctx.halt();
+      }
+      return super.visit(ctx);
+    }
+  }
+
   Person person;
   Address personAddress;
   Person manager;
@@ -388,6 +450,312 @@ public class SimpleBeanEditorTest extends GWTTestCase {
     assertEquals("David", person.manager.name);
   }
 
+  public void testFlushPaths() {
+    PersonEditorDriver driver = new PersonEditorDriver_Impl();
+    PersonEditor editor = new PersonEditor();
+    driver.initialize(editor);
+    driver.edit(person);
+
+    editor.name.setValue("Charles");
+    editor.addressEditor.city.setValue("Wootville");
+    editor.addressEditor.street.setValue("12345");
+    editor.managerName.setValue("David");
+
+    assertSame(person, driver.flush("address.city"));
+    assertEquals("Alice", person.name);
+    assertEquals("Wootville", person.address.city);
+    assertEquals("Street", person.address.street);
+    assertEquals("Bill", person.manager.name);
+
+    driver.flush("name", "manager");
+    assertEquals("Charles", person.name);
+    assertEquals("Street", person.address.street);
+    assertEquals("David", person.manager.name);
+
+    driver.flush("address");
+    assertEquals("12345", person.address.street);
+  }
+
+  public void testWriteChangesOnly() {
+    PersonEditorDriver driver = new PersonEditorDriver_Impl();
+    PersonEditor editor = new PersonEditor();
+    driver.initialize(editor);
+    driver.edit(person);
+    driver.setWriteChangesOnly(true);
+
+    editor.name.setValue("Charles");
+    person.address.city = "Wootville";
+    driver.flush();
+    assertEquals("Charles", person.name);
+    // An untouched editor does not overwrite the model
+    assertEquals("Wootville", person.address.city);
+    assertEquals(4, driver.getSkippedWrites());
+
+    // Refreshed values are the new baseline
+    driver.refresh("address");
+    editor.addressEditor.street.setValue("12345");
+    driver.flush("address");
+    assertEquals("12345", person.address.street);
+    assertEquals(1, driver.getSkippedWrites());
+
+    driver.setWriteChangesOnly(false);
+    person.address.city = "Foo";
+    driver.flush();
+    assertEquals("Wootville", person.address.city);
+    assertEquals(0, driver.getSkippedWrites());
+  }
+
+  public void testWriteChangesOnlyAfterRevert() {
+    PersonEditorDriver driver = new PersonEditorDriver_Impl();
+    PersonEditor editor = new PersonEditor();
+    driver.initialize(editor);
+    driver.edit(person);
+    driver.setWriteChangesOnly(true);
+
+    editor.name.setValue("Charles");
+    driver.flush();
+    assertEquals("Charles", person.name);
+
+    // Going back to the edited value is a change since the last flush
+    editor.name.setValue("Alice");
+    driver.flush();
+    assertEquals("Alice", person.name);
+    assertEquals(4, driver.getSkippedWrites());
+    driver.flush();
+    assertEquals(5, driver.getSkippedWrites());
+
+    // After a flush writing every value, the leaves are compared against the model
+    driver.setWriteChangesOnly(false);
+    editor.name.setValue("Charles");
+    driver.flush();
+    driver.setWriteChangesOnly(true);
+    editor.name.setValue("Alice");
+    driver.flush();
+    assertEquals("Alice", person.name);
+    assertEquals(4, driver.getSkippedWrites());
+  }
+
+  public void testFlushChanges() {
+    PersonEditorDriver driver = new PersonEditorDriver_Impl();
+    PersonEditor editor = new PersonEditor();
+    driver.initialize(editor);
+    driver.edit(person);
+    assertTrue(driver.flushChanges().isEmpty());
+
+    editor.name.setValue("Charles");
+    editor.addressEditor.street.setValue("12345");
+    List<EditorChange> changes = driver.flushChanges();
+    assertEquals(2, changes.size());
+    assertEquals("address.street", changes.get(0).getAbsolutePath());
+    assertSame(editor.addressEditor.street, changes.get(0).getEditor());
+    assertEquals("Street", changes.get(0).getOldValue());
+    assertEquals("12345", changes.get(0).getNewValue());
+    assertEquals("name", changes.get(1).getAbsolutePath());
+    assertEquals("Alice", changes.get(1).getOldValue());
+    assertEquals("Charles", changes.get(1).getNewValue());
+    // The model is left alone
+    assertEquals("Alice", person.name);
+    assertEquals("Street", person.address.street);
+
+    // Changing a value back drops it from the changes
+    editor.addressEditor.street.setValue("Street");
+    changes = driver.flushChanges();
+    assertEquals(1, changes.size());
+    assertEquals("name", changes.get(0).getAbsolutePath());
+
+    driver.flush();
+    assertEquals("Charles", person.name);
+    // Flushing does not move the baseline, editing does
+    assertEquals(1, driver.flushChanges().size());
+    driver.edit(person);
+    assertTrue(driver.flushChanges().isEmpty());
+  }
+
+  public void testLazySubEditor() {
+    PersonEditorWithLazyAddressEditorDriver driver =
+        new SimpleBeanEditorTest_PersonEditorWithLazyAddressEditorDriver_Impl();
+    PersonEditorWithLazyAddressEditor editor = new PersonEditorWithLazyAddressEditor();
+    driver.initialize(editor);
+    driver.edit(person);
+    assertEquals("Alice", editor.name.getValue());
+
+    // The inactive branch is neither populated, flushed nor checked
+    assertEquals(UNINITIALIZED, editor.addressEditor.city.getValue());
+    editor.addressEditor.city.setValue("Foo");
+    assertFalse(driver.isDirty());
+    driver.flush();
+    assertEquals("City", person.address.city);
+
+    // Activating a path below the lazy editor activates all of it
+    driver.activate("address.city");
+    assertEquals("City", editor.addressEditor.city.getValue());
+    assertEquals("Street", editor.addressEditor.street.getValue());
+    assertFalse(driver.isDirty());
+    editor.addressEditor.city.setValue("Foo");
+    assertTrue(driver.isDirty());
+    driver.flush();
+    assertEquals("Foo", person.address.city);
+
+    // An active branch is not populated again, and stays active across edits
+    editor.addressEditor.street.setValue("12345");
+    driver.activate("address");
+    assertEquals("12345", editor.addressEditor.street.getValue());
+    person.address.city = "Bar";
+    driver.edit(person);
+    assertEquals("Bar", editor.addressEditor.city.getValue());
+    assertEquals("Street", editor.addressEditor.street.getValue());
+    assertFalse(driver.isDirty());
+  }
+
+  public void testNoPathsSelectsWholeHierarchy() {
+    PersonEditorWithLazyAddressEditorDriver driver =
+        new SimpleBeanEditorTest_PersonEditorWithLazyAddressEditorDriver_Impl();
+    PersonEditorWithLazyAddressEditor editor = new PersonEditorWithLazyAddressEditor();
+    driver.initialize(editor);
+    driver.edit(person);
+    driver.activate();
+    assertEquals("City", editor.addressEditor.city.getValue());
+
+    person.name = "Zed";
+    person.address.city = "Bar";
+    driver.refresh();
+    assertEquals("Zed", editor.name.getValue());
+    assertEquals("Bar", editor.addressEditor.city.getValue());
+    assertFalse(driver.isDirty());
+
+    editor.name.setValue("Charles");
+    editor.addressEditor.city.setValue("Foo");
+    driver.flush(new String[0]);
+    assertEquals("Charles", person.name);
+    assertEquals("Foo", person.address.city);
+  }
+
+  public void testMetrics() {
+    PersonEditorDriver driver = new PersonEditorDriver_Impl();
+    PersonEditor editor = new PersonEditor();
+    EditorDriverHistogram histogram = new EditorDriverHistogram();
+    driver.initialize(editor);
+    driver.setMetrics(histogram);
+    driver.edit(person);
+    editor.name.setValue("Charles");
+    assertTrue(driver.isDirty());
+    driver.flush();
+    driver.setConstraintViolations(null);
+
+    assertEquals(1, histogram.getCount(EditorDriverMetrics.Operation.EDIT));
+    assertEquals(1, histogram.getCount(EditorDriverMetrics.Operation.IS_DIRTY));
+    assertEquals(1, histogram.getCount(EditorDriverMetrics.Operation.FLUSH));
+    assertEquals(1, histogram.getCount(EditorDriverMetrics.Operation.SET_VIOLATIONS));
+    // address.city, address.street, localTime, name and manager.name
+    assertEquals(5, histogram.getLeavesRead(EditorDriverMetrics.Operation.EDIT));
+    assertEquals(5, histogram.getLeavesWritten(EditorDriverMetrics.Operation.FLUSH));
+    assertEquals(0, histogram.getErrors(EditorDriverMetrics.Operation.FLUSH));
+    assertTrue(histogram.getContextsVisited(EditorDriverMetrics.Operation.FLUSH) > 5);
+    int total = 0;
+    for (int count : histogram.getBucketCounts(EditorDriverMetrics.Operation.FLUSH)) {
+      total += count;
+    }
+    assertEquals(1, total);
+
+    // Only the changed value is written
+    driver.setWriteChangesOnly(true);
+    editor.name.setValue("David");
+    driver.flush();
+    assertEquals(6, histogram.getLeavesWritten(EditorDriverMetrics.Operation.FLUSH));
+
+    driver.setMetrics(null);
+    driver.flush();
+    assertEquals(2, histogram.getCount(EditorDriverMetrics.Operation.FLUSH));
+  }
+
+  public void testDriverDefaults() {
+    // A driver implementing only the methods SimpleBeanEditorDriver started with
+    final Person[] edited = {null};
+    final int[] flushes = {0};
+    SimpleBeanEditorDriver<Person, PersonEditor> driver =
+        new SimpleBeanEditorDriver<Person, PersonEditor>() {
+          @Override
+          public void accept(EditorVisitor visitor) {}
+
+          @Override
+          public void edit(Person object) {
+            edited[0] = object;
+          }
+
+          @Override
+          public Person flush() {
+            flushes[0]++;
+            return edited[0];
+          }
+
+          @Override
+          public List<EditorError> getErrors() {
+            return Collections.emptyList();
+          }
+
+          @Override
+          public boolean hasErrors() {
+            return false;
+          }
+
+          @Override
+          public void initialize(PersonEditor editor) {}
+
+          @Override
+          public boolean isDirty() {
+            return false;
+          }
+
+          @Override
+          public boolean setConstraintViolations(
+              Iterable<javax.validation.ConstraintViolation<?>> violations) {
+            return false;
+          }
+        };
+    driver.edit(person);
+    driver.activate("address");
+    driver.setMetrics(new EditorDriverHistogram());
+    driver.setSnapshotStrategy(String.class, SnapshotStrategy.fingerprint());
+    driver.setWriteChangesOnly(true);
+    assertSame(person, driver.flush("name"));
+    assertEquals(1, flushes[0]);
+    assertEquals(0, driver.getSkippedWrites());
+    try {
+      driver.refresh("name");
+      fail();
+    } catch (UnsupportedOperationException expected) {
+    }
+  }
+
+  public void testRefreshPaths() {
+    PersonEditorDriver driver = new PersonEditorDriver_Impl();
+    PersonEditor editor = new PersonEditor();
+    driver.initialize(editor);
+    driver.edit(person);
+    editor.name.setValue("Charles");
+
+    person.address.city = "Wootville";
+    person.manager.name = "David";
+    driver.refresh("address");
+    assertEquals("Wootville", editor.addressEditor.city.getValue());
+    assertEquals("Street", editor.addressEditor.street.getValue());
+    assertEquals("Bill", editor.managerName.getValue());
+    assertEquals("Charles", editor.name.getValue());
+    assertTrue(driver.isDirty());
+
+    // The refreshed value is the new baseline
+    editor.name.setValue("Alice");
+    assertFalse(driver.isDirty());
+    editor.addressEditor.city.setValue("City");
+    assertTrue(driver.isDirty());
+    editor.addressEditor.city.setValue("Wootville");
+    assertFalse(driver.isDirty());
+
+    driver.refresh("manager.name", "localTime");
+    assertEquals("David", editor.managerName.getValue());
+    assertFalse(driver.isDirty());
+  }
+
   public void testAliasedEditors() {
     PersonEditorWithAliasedSubEditors editor = new PersonEditorWithAliasedSubEditors();
     PersonEditorWithAliasedSubEditorsDriver driver =
@@ -422,6 +790,66 @@ public class SimpleBeanEditorTest extends GWTTestCase {
     assertEquals("manager.name", editor.managerName.delegate.getPath());
   }
 
+  /** Moving a list element must update the paths of the delegates below it. */
+  public void testDelegatePathAfterListElementMoved() {
+    ListEditor<Person, PersonEditorWithManagerNameWithDelegate> editor =
+        ListEditor.of(
+            new EditorSource<PersonEditorWithManagerNameWithDelegate>() {
+              @Override
+              public PersonEditorWithManagerNameWithDelegate create(int index) {
+                return new PersonEditorWithManagerNameWithDelegate();
+              }
+            });
+    PersonListWithDelegatesDriver driver =
+        new SimpleBeanEditorTest_PersonListWithDelegatesDriver_Impl();
+    driver.initialize(editor);
+
+    List<Person> people = new ArrayList<Person>(Arrays.asList(person, person));
+    driver.edit(people);
+    PersonEditorWithManagerNameWithDelegate second = editor.getEditors().get(1);
+    assertEquals("[1].manager.name", second.managerName.delegate.getPath());
+
+    editor.getList().remove(0);
+    driver.flush();
+    driver.edit(people);
+    assertSame(second, editor.getEditors().get(0));
+    assertEquals("[0].manager.name", second.managerName.delegate.getPath());
+  }
+
+  public void testDelegatePathAfterKeyedInsertAtTop() {
+    ListEditor<Person, PersonEditorWithManagerNameWithDelegate> editor =
+        ListEditor.of(
+            new EditorSource<PersonEditorWithManagerNameWithDelegate>() {
+              @Override
+              public PersonEditorWithManagerNameWithDelegate create(int index) {
+                return new PersonEditorWithManagerNameWithDelegate();
+              }
+            },
+            new ListEditor.KeyMethod<Person>() {
+              @Override
+              public Object key(Person element) {
+                return element;
+              }
+            });
+    PersonListWithDelegatesDriver driver =
+        new SimpleBeanEditorTest_PersonListWithDelegatesDriver_Impl();
+    driver.initialize(editor);
+
+    Person other = new Person();
+    other.manager = manager;
+    List<Person> people = new ArrayList<Person>(Arrays.asList(person, other));
+    driver.edit(people);
+    PersonEditorWithManagerNameWithDelegate second = editor.getEditors().get(1);
+    EditorDelegate<String> secondDelegate = second.managerName.delegate;
+    assertEquals("[1].manager.name", secondDelegate.getPath());
+
+    people.add(0, new Person());
+    driver.edit(people);
+    assertSame(second, editor.getEditors().get(2));
+    assertSame(secondDelegate, second.managerName.delegate);
+    assertEquals("[2].manager.name", secondDelegate.getPath());
+  }
+
   /**
    * See <a href="https://code.google.com/p/google-web-toolkit/issues/detail?id=6139" >issue
    * 6139</a>
@@ -497,6 +925,129 @@ public class SimpleBeanEditorTest extends GWTTestCase {
     assertEquals("Should see this", person.getAddress().getCity());
   }
 
+  /** Generated delegates reuse their contexts, which must be rebound to the current object. */
+  public void testContextsAreRebound() {
+    PersonEditorDriver driver = new PersonEditorDriver_Impl();
+    PersonEditor editor = new PersonEditor();
+    driver.initialize(editor);
+    driver.edit(person);
+
+    final List<EditorContext<?>> contexts = new ArrayList<EditorContext<?>>();
+    final List<Object> values = new ArrayList<Object>();
+    EditorVisitor visitor =
+        new EditorVisitor() {
+          @Override
+          public <T> boolean visit(EditorContext<T> ctx) {
+            if ("manager.name".equals(ctx.getAbsolutePath())) {
+              contexts.add(ctx);
+              values.add(ctx.getFromModel());
+            }
+            return true;
+          }
+        };
+    driver.accept(visitor);
+
+    Person person2 = new Person();
+    person2.manager = new Person();
+    person2.manager.name = "Dave";
+    driver.edit(person2);
+    driver.accept(visitor);
+
+    assertEquals(2, contexts.size());
+    assertSame(contexts.get(0), contexts.get(1));
+    assertEquals(Arrays.asList("Bill", "Dave"), values);
+  }
+
+  /** A traversal started from within another one must not disturb the contexts in use. */
+  public void testNestedTraversal() {
+    final PersonEditorDriver driver = new PersonEditorDriver_Impl();
+    driver.initialize(new PersonEditor());
+    driver.edit(person);
+
+    final HaltingVisitor nested = new HaltingVisitor("address.city");
+    RecordingVisitor outer =
+        new RecordingVisitor(null) {
+          @Override
+          public <T> boolean visit(EditorContext<T> ctx) {
+            if ("address.city".equals(ctx.getAbsolutePath())) {
+              driver.accept(nested);
+              assertFalse(driver.isDirty());
+            }
+            return super.visit(ctx);
+          }
+        };
+    driver.accept(outer);
+
+    RecordingVisitor all = new RecordingVisitor(null);
+    driver.accept(all);
+    assertEquals(all.log, outer.log);
+    assertTrue(nested.log.contains("endVisit address.city"));
+    assertFalse(nested.log.contains("visit address.street"));
+  }
+
+  /** Checks that a MultiplexVisitor delivers the same nodes as separate traversals. */
+  public void testMultiplexVisitor() {
+    PersonEditorDriver driver = new PersonEditorDriver_Impl();
+    PersonEditor editor = new PersonEditor();
+    driver.initialize(editor);
+    driver.edit(person);
+
+    RecordingVisitor all = new RecordingVisitor(null);
+    RecordingVisitor pruned = new RecordingVisitor("address");
+    driver.accept(all);
+    driver.accept(pruned);
+
+    RecordingVisitor fusedAll = new RecordingVisitor(null);
+    RecordingVisitor fusedPruned = new RecordingVisitor("address");
+    driver.accept(new MultiplexVisitor(fusedAll, fusedPruned));
+
+    assertEquals(all.log, fusedAll.log);
+    assertEquals(pruned.log, fusedPruned.log);
+    assertTrue(all.log.contains("visit address.city"));
+    assertFalse(pruned.log.contains("visit address.city"));
+    assertTrue(pruned.log.contains("endVisit address"));
+  }
+
+  public void testHaltedTraversal() {
+    PersonEditorDriver driver = new PersonEditorDriver_Impl();
+    driver.initialize(new PersonEditor());
+    driver.edit(person);
+    assertHalted(driver, "address.city", "address", "");
+
+    PersonWithListEditorDriver listDriver =
+        new SimpleBeanEditorTest_PersonWithListEditorDriver_Impl();
+    PersonWithList personWithList = new PersonWithList();
+    personWithList.addresses.add(new Address());
+    personWithList.addresses.add(new Address());
+    listDriver.initialize(new PersonWithListEditor());
+    listDriver.edit(personWithList);
+    assertHalted(listDriver, "addresses[0].city", "addresses[0]", "addresses", "");
+  }
+
+  /**
+   * Checks that halting at {@code path} skips the rest of the hierarchy, while the enclosing
+   * editors are still left, and that the next traversal is complete again.
+   */
+  private void assertHalted(EditorDriver<?> driver, String path, String... enclosing) {
+    RecordingVisitor all = new RecordingVisitor(null);
+    driver.accept(all);
+    HaltingVisitor halted = new HaltingVisitor(path);
+    driver.accept(halted);
+
+    List<String> expected =
+        new ArrayList<String>(all.log.subList(0, all.log.indexOf("visit " + path) + 1));
+    expected.add("endVisit " + path);
+    for (String p : enclosing) {
+      expected.add("endVisit " + p);
+    }
+    assertEquals(expected, halted.log);
+    assertTrue(expected.size() < all.log.size());
+
+    RecordingVisitor again = new RecordingVisitor(null);
+    driver.accept(again);
+    assertEquals(all.log, again.log);
+  }
+
   /** Test the use of the IsEditor interface that allows a view object to encapsulate its Editor. */
   public void testIsEditorView() {
     PersonEditorWithAddressEditorView personEditor = new PersonEditorWithAddressEditorView();
@@ -671,6 +1222,183 @@ public class SimpleBeanEditorTest extends GWTTestCase {
     assertEquals(expectedDisposed, disposed[0]);
   }
 
+  public void testKeyedListEditor() {
+    ListEditorDriver driver = new SimpleBeanEditorTest_ListEditorDriver_Impl();
+    ListEditor<String, SimpleEditor<String>> editor =
+        ListEditor.of(
+            new EditorSource<SimpleEditor<String>>() {
+              @Override
+              public SimpleEditor<String> create(int index) {
+                return SimpleEditor.of();
+              }
+            },
+            new ListEditor.KeyMethod<String>() {
+              @Override
+              public Object key(String element) {
+                return element;
+              }
+            });
+    driver.initialize(editor);
+
+    driver.edit(new ArrayList<String>(Arrays.asList("foo", "bar")));
+    SimpleEditor<String> barEditor = editor.getEditors().get(1);
+
+    List<String> rawData = new ArrayList<String>(Arrays.asList("bar", "baz"));
+    driver.edit(rawData);
+    assertEquals(2, editor.getEditors().size());
+    assertSame(barEditor, editor.getEditors().get(0));
+    assertEquals("bar", barEditor.getValue());
+    assertEquals("baz", editor.getEditors().get(1).getValue());
+    assertEquals(rawData, editor.getList());
+
+    editor.getEditors().get(1).setValue("quux");
+    driver.flush();
+    assertEquals(Arrays.asList("bar", "quux"), rawData);
+  }
+
+  public void testWindowedListEditor() {
+    final List<SimpleEditor<String>> created = new ArrayList<SimpleEditor<String>>();
+    WindowedListEditorDriver driver = new SimpleBeanEditorTest_WindowedListEditorDriver_Impl();
+    WindowedListEditor<String, SimpleEditor<String>> editor =
+        WindowedListEditor.of(
+            new EditorSource<SimpleEditor<String>>() {
+              @Override
+              public SimpleEditor<String> create(int index) {
+                SimpleEditor<String> subEditor = SimpleEditor.of();
+                created.add(subEditor);
+                return subEditor;
+              }
+            },
+            2);
+    driver.initialize(editor);
+
+    List<String> rawData = new ArrayList<String>(Arrays.asList("a", "b", "c", "d", "e"));
+    driver.edit(rawData);
+    List<SimpleEditor<String>> editors = editor.getEditors();
+    assertEquals(created, editors);
+    assertEquals("a", editors.get(0).getValue());
+    assertEquals("b", editors.get(1).getValue());
+
+    // The edited sub-editor is parked, the other one is reused
+    editors.get(0).setValue("A");
+    editor.setWindow(2, 2);
+    editors = editor.getEditors();
+    assertEquals(3, created.size());
+    assertSame(created.get(1), editors.get(0));
+    assertSame(created.get(2), editors.get(1));
+    assertEquals("c", editors.get(0).getValue());
+    assertEquals("d", editors.get(1).getValue());
+    assertEquals("[3]", editor.getPathElement(editors.get(1)));
+    assertEquals("A", created.get(0).getValue());
+    assertEquals("[0]", editor.getPathElement(created.get(0)));
+
+    // The window is clamped to the end of the list
+    editors.get(1).setValue("D");
+    editor.setWindow(4, 2);
+    assertEquals(3, editor.getWindowStart());
+    editors = editor.getEditors();
+    assertEquals("D", editors.get(0).getValue());
+    assertEquals("e", editors.get(1).getValue());
+    assertEquals(3, created.size());
+    assertEquals(Arrays.asList("a", "b", "c", "d", "e"), rawData);
+
+    driver.flush();
+    assertEquals(Arrays.asList("A", "b", "c", "D", "e"), rawData);
+
+    // Shrinking the list disposes the extra sub-editors
+    driver.edit(new ArrayList<String>(Arrays.asList("x")));
+    assertEquals(0, editor.getWindowStart());
+    assertEquals(1, editor.getEditors().size());
+    assertEquals("x", editor.getEditors().get(0).getValue());
+  }
+
+  public void testWindowedListEditorKeepsPendingBeanValues() {
+    WindowedAddressListEditorDriver driver =
+        new SimpleBeanEditorTest_WindowedAddressListEditorDriver_Impl();
+    WindowedListEditor<Address, AddressEditor> editor =
+        WindowedListEditor.of(
+            new EditorSource<AddressEditor>() {
+              @Override
+              public AddressEditor create(int index) {
+                return new AddressEditor();
+              }
+            },
+            1);
+    driver.initialize(editor);
+
+    List<Address> rawData = new ArrayList<Address>();
+    for (int i = 0; i < 3; i++) {
+      Address address = new Address();
+      address.city = "city" + i;
+      rawData.add(address);
+    }
+    driver.edit(rawData);
+    AddressEditor subEditor = editor.getEditors().get(0);
+    subEditor.city.setValue("edited");
+
+    // The edited sub-editor is parked while its element is out of view
+    editor.setWindow(2, 1);
+    assertNotSame(subEditor, editor.getEditors().get(0));
+    assertEquals("city2", editor.getEditors().get(0).city.getValue());
+    assertEquals("edited", subEditor.city.getValue());
+    assertEquals("city0", rawData.get(0).city);
+    assertTrue(driver.isDirty());
+
+    editor.setWindow(0, 1);
+    assertSame(subEditor, editor.getEditors().get(0));
+    assertEquals("edited", subEditor.city.getValue());
+
+    // The pending values of the elements out of view are flushed too
+    editor.setWindow(1, 1);
+    List<Address> flushed = driver.flush();
+    assertSame(rawData, flushed);
+    assertEquals("edited", flushed.get(0).city);
+    assertEquals("city1", flushed.get(1).city);
+    assertEquals("city2", flushed.get(2).city);
+  }
+
+  public void testWindowedListEditorDirtyState() {
+    WindowedListEditorDriver driver = new SimpleBeanEditorTest_WindowedListEditorDriver_Impl();
+    WindowedListEditor<String, SimpleEditor<String>> editor =
+        WindowedListEditor.of(
+            new EditorSource<SimpleEditor<String>>() {
+              @Override
+              public SimpleEditor<String> create(int index) {
+                return SimpleEditor.of();
+              }
+            },
+            2);
+    driver.initialize(editor);
+
+    List<String> rawData = new ArrayList<String>(Arrays.asList("a", "b", "c", "d", "e"));
+    driver.edit(rawData);
+
+    // Scrolling over unchanged elements doesn't make the list dirty
+    editor.setWindow(3, 2);
+    assertFalse(driver.isDirty());
+    editor.setWindow(0, 2);
+    assertFalse(driver.isDirty());
+
+    // An edit out of view is still reported, but not written to the list
+    editor.getEditors().get(0).setValue("A");
+    editor.setWindow(3, 2);
+    assertTrue(driver.isDirty());
+    assertEquals(Arrays.asList("a", "b", "c", "d", "e"), rawData);
+
+    editor.setWindow(0, 2);
+    editor.getEditors().get(0).setValue("a");
+    assertFalse(driver.isDirty());
+
+    // Editing the list again discards the pending values
+    editor.getEditors().get(0).setValue("A");
+    editor.setWindow(3, 2);
+    driver.edit(rawData);
+    assertFalse(driver.isDirty());
+    editor.setWindow(0, 2);
+    assertEquals("a", editor.getEditors().get(0).getValue());
+    assertEquals(Arrays.asList("a", "b", "c", "d", "e"), driver.flush());
+  }
+
   /** Ensure that a ListEditor deeper in the chain is properly flushed. */
   public void testListEditorChainFlush() {
     PersonWithListEditorDriver driver = new SimpleBeanEditorTest_PersonWithListEditorDriver_Impl();
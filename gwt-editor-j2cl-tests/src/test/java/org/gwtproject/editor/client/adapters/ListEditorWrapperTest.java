@@ -82,6 +82,74 @@ public class ListEditorWrapperTest {
     assertEquals(FakeEditorSource.DISPOSED, source.getLastKnownPosition(editor1));
   }
 
+  @Test
+  public void testBatchMutations() {
+    Object o0 = new Object();
+    Object o1 = new Object();
+    List<Object> backing = new ArrayList<Object>(Arrays.asList(o0, o1));
+    final int[] setIndexCalls = new int[1];
+    FakeEditorSource<Object> source =
+        new FakeEditorSource<Object>() {
+          @Override
+          public void setIndex(FakeLeafValueEditor<Object> editor, int index) {
+            setIndexCalls[0]++;
+            super.setIndex(editor, index);
+          }
+        };
+    MockEditorChain<Object> chain = new MockEditorChain<Object>();
+
+    ListEditorWrapper<Object, FakeLeafValueEditor<Object>> wrapper =
+        new ListEditorWrapper<Object, FakeLeafValueEditor<Object>>(backing, chain, source);
+    wrapper.attach();
+    FakeLeafValueEditor<Object> e0 = wrapper.getEditors().get(0);
+    FakeLeafValueEditor<Object> e1 = wrapper.getEditors().get(1);
+
+    // Insert at the top: each existing editor is re-indexed once
+    Object n0 = new Object();
+    Object n1 = new Object();
+    Object n2 = new Object();
+    wrapper.addAll(0, Arrays.asList(n0, n1, n2));
+    assertEquals(Arrays.asList(n0, n1, n2, o0, o1), wrapper);
+    assertEquals(2, setIndexCalls[0]);
+    assertEquals(3, source.getLastKnownPosition(e0));
+    assertEquals(4, source.getLastKnownPosition(e1));
+    assertEquals(4, wrapper.indexOfEditor(e1));
+    for (int i = 0; i < 3; i++) {
+      FakeLeafValueEditor<Object> added = wrapper.getEditors().get(i);
+      assertEquals(i, source.getLastKnownPosition(added));
+      assertTrue(chain.isAttached(added));
+      assertSame(wrapper.get(i), added.getValue());
+    }
+
+    // Remove a range
+    FakeLeafValueEditor<Object> en1 = wrapper.getEditors().get(1);
+    setIndexCalls[0] = 0;
+    wrapper.removeRange(1, 3);
+    assertEquals(Arrays.asList(n0, o0, o1), wrapper);
+    assertEquals(2, setIndexCalls[0]);
+    assertEquals(FakeEditorSource.DISPOSED, source.getLastKnownPosition(en1));
+    assertFalse(chain.isAttached(en1));
+    assertEquals(1, source.getLastKnownPosition(e0));
+    assertEquals(2, wrapper.indexOfEditor(e1));
+
+    // Compact in a single pass
+    FakeLeafValueEditor<Object> en0 = wrapper.getEditors().get(0);
+    assertTrue(wrapper.retainAll(Arrays.asList(o1, n0)));
+    assertEquals(Arrays.asList(n0, o1), wrapper);
+    assertEquals(Arrays.asList(en0, e1), wrapper.getEditors());
+    assertEquals(1, source.getLastKnownPosition(e1));
+    assertFalse(chain.isAttached(e0));
+    assertFalse(wrapper.removeAll(Arrays.asList(o0)));
+
+    wrapper.flush();
+    assertEquals(Arrays.asList(n0, o1), backing);
+
+    wrapper.clear();
+    assertTrue(wrapper.getEditors().isEmpty());
+    assertFalse(chain.isAttached(e1));
+    assertEquals(FakeEditorSource.DISPOSED, source.getLastKnownPosition(e1));
+  }
+
   @Test
   public void testEmpty() {
     List<Object> backing = new ArrayList<Object>();
@@ -97,7 +165,191 @@ public class ListEditorWrapperTest {
     wrapper.detach();
   }
 
+  @Test
+  public void testIndexOf() {
+    Object o0 = new Object();
+    Object o1 = new Object();
+    List<Object> backing = new ArrayList<Object>(Arrays.asList(o0, o1));
+    FakeEditorSource<Object> source = new FakeEditorSource<Object>();
+    MockEditorChain<Object> chain = new MockEditorChain<Object>();
+
+    ListEditorWrapper<Object, FakeLeafValueEditor<Object>> wrapper =
+        new ListEditorWrapper<Object, FakeLeafValueEditor<Object>>(backing, chain, source);
+    wrapper.attach();
+
+    FakeLeafValueEditor<Object> e0 = wrapper.getEditors().get(0);
+    FakeLeafValueEditor<Object> e1 = wrapper.getEditors().get(1);
+    assertEquals(0, wrapper.indexOfEditor(e0));
+    assertEquals(1, wrapper.indexOfEditor(e1));
+
+    wrapper.add(0, new Object());
+    FakeLeafValueEditor<Object> added = wrapper.getEditors().get(0);
+    assertEquals(0, wrapper.indexOfEditor(added));
+    assertEquals(1, wrapper.indexOfEditor(e0));
+    assertEquals(2, wrapper.indexOfEditor(e1));
+
+    wrapper.remove(1);
+    assertEquals(-1, wrapper.indexOfEditor(e0));
+    assertEquals(1, wrapper.indexOfEditor(e1));
+    assertEquals(-1, wrapper.indexOfEditor(new FakeLeafValueEditor<Object>()));
+  }
+
+  @Test
+  @Test
+  public void testKeyedRefresh() {
+    String a = "a";
+    String b = "b";
+    String c = "c";
+    List<String> backing = new ArrayList<String>(Arrays.asList(a, b, c));
+    FakeEditorSource<String> source = new FakeEditorSource<String>();
+    MockEditorChain<String> chain = new MockEditorChain<String>();
+    ListEditor.KeyMethod<String> keyMethod =
+        new ListEditor.KeyMethod<String>() {
+          @Override
+          public Object key(String element) {
+            return element.substring(0, 1);
+          }
+        };
+
+    ListEditorWrapper<String, FakeLeafValueEditor<String>> wrapper =
+        new ListEditorWrapper<String, FakeLeafValueEditor<String>>(backing, chain, source);
+    wrapper.attach();
+    FakeLeafValueEditor<String> e0 = wrapper.getEditors().get(0);
+    FakeLeafValueEditor<String> e1 = wrapper.getEditors().get(1);
+    FakeLeafValueEditor<String> e2 = wrapper.getEditors().get(2);
+    // Cleared values show which sub-editors are re-attached
+    e0.setValue(null);
+    e2.setValue(null);
+
+    backing.remove(b);
+    backing.add("d");
+    wrapper.refresh(keyMethod);
+
+    assertEquals(Arrays.asList(a, c, "d"), wrapper);
+    assertEquals(3, wrapper.getEditors().size());
+    assertSame(e0, wrapper.getEditors().get(0));
+    assertSame(e2, wrapper.getEditors().get(1));
+    FakeLeafValueEditor<String> e3 = wrapper.getEditors().get(2);
+    // Unchanged row is left alone
+    assertNull(e0.getValue());
+    // Moved row only has its path updated
+    assertNull(e2.getValue());
+    assertEquals(1, chain.getPathUpdateCount());
+    assertEquals(1, source.getLastKnownPosition(e2));
+    assertEquals(1, wrapper.indexOfEditor(e2));
+    // New row is created and attached
+    assertEquals("d", e3.getValue());
+    assertEquals(2, source.getLastKnownPosition(e3));
+    assertTrue(chain.isAttached(e3));
+    // Removed row is detached and disposed
+    assertFalse(chain.isAttached(e1));
+    assertEquals(FakeEditorSource.DISPOSED, source.getLastKnownPosition(e1));
+
+    // Replacing an element with another one with the same key re-attaches the same sub-editor
+    String a2 = "a2";
+    backing.set(0, a2);
+    wrapper.refresh(keyMethod);
+    assertSame(e0, wrapper.getEditors().get(0));
+    assertSame(a2, e0.getValue());
+  }
+
+  @Test
+  public void testKeyedRefreshAfterInsertAtTop() {
+    List<String> backing = new ArrayList<String>(Arrays.asList("a", "b", "c"));
+    FakeEditorSource<String> source = new FakeEditorSource<String>();
+    MockEditorChain<String> chain = new MockEditorChain<String>();
+    ListEditor.KeyMethod<String> keyMethod =
+        new ListEditor.KeyMethod<String>() {
+          @Override
+          public Object key(String element) {
+            return element;
+          }
+        };
+
+    ListEditorWrapper<String, FakeLeafValueEditor<String>> wrapper =
+        new ListEditorWrapper<String, FakeLeafValueEditor<String>>(backing, chain, source);
+    wrapper.attach();
+    List<FakeLeafValueEditor<String>> oldEditors =
+        new ArrayList<FakeLeafValueEditor<String>>(wrapper.getEditors());
+    int attached = chain.getAttachCount();
+
+    backing.add(0, "z");
+    wrapper.refresh(keyMethod);
+
+    // Only the new row is initialized, the others are moved down
+    assertEquals(Arrays.asList("z", "a", "b", "c"), wrapper);
+    assertEquals(attached + 1, chain.getAttachCount());
+    assertEquals(3, chain.getPathUpdateCount());
+    assertEquals(oldEditors, wrapper.getEditors().subList(1, 4));
+    for (int i = 1; i < 4; i++) {
+      assertEquals(i, wrapper.indexOfEditor(wrapper.getEditors().get(i)));
+      assertEquals(i, source.getLastKnownPosition(wrapper.getEditors().get(i)));
+    }
+  }
+
   @SuppressWarnings("unchecked")
+  @Test
+  public void testPooledEditorSource() {
+    final int[] created = {0};
+    final List<FakeLeafValueEditor<Object>> reset = new ArrayList<FakeLeafValueEditor<Object>>();
+    final List<FakeLeafValueEditor<Object>> disposed = new ArrayList<FakeLeafValueEditor<Object>>();
+    EditorSource<FakeLeafValueEditor<Object>> source =
+        new EditorSource<FakeLeafValueEditor<Object>>(2) {
+          @Override
+          public FakeLeafValueEditor<Object> create(int index) {
+            created[0]++;
+            return new FakeLeafValueEditor<Object>();
+          }
+
+          @Override
+          public void dispose(FakeLeafValueEditor<Object> subEditor) {
+            disposed.add(subEditor);
+          }
+
+          @Override
+          protected void reset(FakeLeafValueEditor<Object> subEditor) {
+            reset.add(subEditor);
+          }
+        };
+    MockEditorChain<Object> chain = new MockEditorChain<Object>();
+
+    ListEditorWrapper<Object, FakeLeafValueEditor<Object>> wrapper =
+        new ListEditorWrapper<Object, FakeLeafValueEditor<Object>>(
+            Arrays.<Object>asList("a", "b", "c"), chain, source);
+    wrapper.attach();
+    List<FakeLeafValueEditor<Object>> oldEditors =
+        new ArrayList<FakeLeafValueEditor<Object>>(wrapper.getEditors());
+    assertEquals(3, created[0]);
+
+    // The pool keeps two sub-editors and disposes of the third one
+    wrapper.detach();
+    assertEquals(oldEditors.subList(0, 2), reset);
+    assertEquals(oldEditors.subList(2, 3), disposed);
+
+    wrapper =
+        new ListEditorWrapper<Object, FakeLeafValueEditor<Object>>(
+            Arrays.<Object>asList("d", "e", "f"), chain, source);
+    wrapper.attach();
+    assertEquals(4, created[0]);
+    assertTrue(wrapper.getEditors().containsAll(oldEditors.subList(0, 2)));
+    for (FakeLeafValueEditor<Object> editor : wrapper.getEditors()) {
+      assertTrue(chain.isAttached(editor));
+      assertSame(wrapper.get(wrapper.indexOfEditor(editor)), editor.getValue());
+    }
+
+    // The traversal editor is pooled right away, then reused
+    FakeLeafValueEditor<Object> traversal = source.createEditorForTraversal();
+    assertEquals(5, created[0]);
+    assertSame(traversal, source.acquire(0));
+    assertEquals(5, created[0]);
+
+    wrapper.remove(0);
+    source.disposePool();
+    assertEquals(2, disposed.size());
+    source.acquire(0);
+    assertEquals(6, created[0]);
+  }
+
   @Test
   public void testRemove() {
     Object o0 = new Object();
@@ -36,11 +36,14 @@ import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 import javax.tools.Diagnostic;
 import org.gwtproject.editor.client.Editor;
+import org.gwtproject.editor.client.EditorContext;
 import org.gwtproject.editor.client.EditorVisitor;
+import org.gwtproject.editor.client.LeafValueEditor;
 import org.gwtproject.editor.client.SimpleBeanEditorDriver;
 import org.gwtproject.editor.client.annotation.IsDriver;
 import org.gwtproject.editor.client.impl.AbstractEditorContext;
 import org.gwtproject.editor.client.impl.AbstractSimpleBeanEditorDriver;
+import org.gwtproject.editor.client.impl.IndexedEditorContext;
 import org.gwtproject.editor.client.impl.RootEditorContext;
 import org.gwtproject.editor.client.impl.SimpleBeanEditorDelegate;
 import org.gwtproject.editor.processor.model.EditorModel;
@@ -50,12 +53,36 @@ import org.gwtproject.editor.processor.model.EditorTypes;
 @AutoService(Processor.class)
 public class DriverProcessor extends AbstractProcessor {
 
+  /**
+   * When set to {@code true}, the generated delegates record the values of their leaf editors in
+   * fields and compare them directly in {@code isDirty()}, instead of the driver tracking them in a
+   * map. All delegates of a driver must be generated with the same setting.
+   */
+  public static final String GENERATE_DIRTY_CHECKS = "gwt.editor.generateDirtyChecks";
+
+  /**
+   * When set to {@code true}, the generated delegates read and write the edited properties directly
+   * in {@code edit()} and {@code flush()}, instead of the driver visiting them with an Initializer
+   * and a Flusher.
+   */
+  public static final String GENERATE_DIRECT_ACCESS = "gwt.editor.generateDirectAccess";
+
+  /**
+   * When set to {@code true}, no context type is generated per editor property. The delegates use
+   * the shared {@link IndexedEditorContext} instead, and read and write their properties by index,
+   * which keeps the number of generated classes down.
+   */
+  public static final String COMPACT_CONTEXTS = "gwt.editor.compactContexts";
+
   private Messager messager;
   private Filer filer;
   private Types types;
   private Elements elements;
   private Stopwatch stopwatch;
   private List<String> generatedDelegates;
+  private boolean generateDirtyChecks;
+  private boolean generateDirectAccess;
+  private boolean compactContexts;
 
   public DriverProcessor() {
     super();
@@ -66,6 +93,12 @@ public class DriverProcessor extends AbstractProcessor {
     return Stream.of(IsDriver.class.getCanonicalName()).collect(toSet());
   }
 
+  @Override
+  public Set<String> getSupportedOptions() {
+    return new HashSet<>(
+        Arrays.asList(GENERATE_DIRTY_CHECKS, GENERATE_DIRECT_ACCESS, COMPACT_CONTEXTS));
+  }
+
   @Override
   public SourceVersion getSupportedSourceVersion() {
     return SourceVersion.latestSupported();
@@ -87,6 +120,12 @@ public class DriverProcessor extends AbstractProcessor {
 
     this.generatedDelegates = new ArrayList<>();
 
+    this.generateDirtyChecks =
+        Boolean.parseBoolean(processingEnv.getOptions().get(GENERATE_DIRTY_CHECKS));
+    this.generateDirectAccess =
+        Boolean.parseBoolean(processingEnv.getOptions().get(GENERATE_DIRECT_ACCESS));
+    this.compactContexts = Boolean.parseBoolean(processingEnv.getOptions().get(COMPACT_CONTEXTS));
+
     setUp();
   }
 
@@ -284,6 +323,10 @@ public class DriverProcessor extends AbstractProcessor {
 
     NameFactory names = new NameFactory();
     Map<EditorProperty, String> delegateFields = new IdentityHashMap<>();
+    Map<EditorProperty, String> contextFields = new IdentityHashMap<>();
+    Map<EditorProperty, String> pathFields = new IdentityHashMap<>();
+    Map<EditorProperty, String> valueFields = new IdentityHashMap<>();
+    Map<EditorProperty, String> activeFields = new IdentityHashMap<>();
 
     delegateTypeBuilder.addField(
         FieldSpec.builder(rawEditorType, "editor", Modifier.PRIVATE).build());
@@ -302,6 +345,43 @@ public class DriverProcessor extends AbstractProcessor {
       }
     }
 
+    // Fields for the activation state of the lazy sub-delegates
+    for (EditorProperty d : editorModel.getEditorData(data.getEditorType())) {
+      if (d.isLazy()) {
+        String fieldName = names.createName(d.getPropertyName() + "Active");
+        activeFields.put(d, fieldName);
+        delegateTypeBuilder.addField(boolean.class, fieldName, Modifier.PRIVATE);
+      }
+    }
+
+    // Fields for the absolute paths, which are computed once per delegate path
+    for (EditorProperty d : editorModel.getEditorData(data.getEditorType())) {
+      String fieldName = names.createName(d.getPropertyName() + "Path");
+      pathFields.put(d, fieldName);
+      delegateTypeBuilder.addField(String.class, fieldName, Modifier.PRIVATE);
+    }
+
+    // Fields for the contexts, which are reused across traversals
+    for (EditorProperty d : editorModel.getEditorData(data.getEditorType())) {
+      String fieldName = names.createName(d.getPropertyName() + "Context");
+      contextFields.put(d, fieldName);
+      delegateTypeBuilder.addField(
+          compactContexts ? ClassName.get(IndexedEditorContext.class) : getEditorContext(data, d),
+          fieldName,
+          Modifier.PRIVATE);
+    }
+
+    // Fields for the snapshotted leaf values; editors with a delegate snapshot their own value
+    if (generateDirtyChecks) {
+      for (EditorProperty d : editorModel.getEditorData(data.getEditorType())) {
+        if (!d.isDelegateRequired()) {
+          String fieldName = names.createName(d.getPropertyName() + "Value");
+          valueFields.put(d, fieldName);
+          delegateTypeBuilder.addField(Object.class, fieldName, Modifier.PRIVATE);
+        }
+      }
+    }
+
     delegateTypeBuilder.addMethod(
         MethodSpec.methodBuilder("getEditor")
             .addModifiers(Modifier.PROTECTED)
@@ -336,6 +416,27 @@ public class DriverProcessor extends AbstractProcessor {
             .addStatement("this.object = ($T) object", ClassName.get(data.getEditedType()))
             .build());
 
+    if (!pathFields.isEmpty()) {
+      MethodSpec.Builder updatePathsBuilder =
+          MethodSpec.methodBuilder("updatePaths")
+              .addModifiers(Modifier.PROTECTED)
+              .returns(void.class)
+              .addAnnotation(Override.class);
+      for (EditorProperty d : editorModel.getEditorData(data.getEditorType())) {
+        updatePathsBuilder.addStatement(
+            "$L = appendPath(\"$L\")", pathFields.get(d), d.getDeclaredPath());
+      }
+      for (EditorProperty d : editorModel.getEditorData(data.getEditorType())) {
+        if (d.isDelegateRequired()) {
+          updatePathsBuilder
+              .beginControlFlow("if ($L != null)", delegateFields.get(d))
+              .addStatement("setSubDelegatePath($L, $L)", delegateFields.get(d), pathFields.get(d))
+              .endControlFlow();
+        }
+      }
+      delegateTypeBuilder.addMethod(updatePathsBuilder.build());
+    }
+
     MethodSpec.Builder initializeSubDelegatesBuilder =
         MethodSpec.methodBuilder("initializeSubDelegates")
             .addModifiers(Modifier.PROTECTED)
@@ -347,20 +448,31 @@ public class DriverProcessor extends AbstractProcessor {
     }
     for (EditorProperty d : editorModel.getEditorData(data.getEditorType())) {
       ClassName subDelegateType = getEditorDelegate(editorModel, d);
+      if (d.isLazy()) {
+        initializeSubDelegatesBuilder.beginControlFlow(
+            "if ($L && editor.$L != null)", activeFields.get(d), d.getSimpleExpression());
+      } else if (d.isDelegateRequired()) {
+        initializeSubDelegatesBuilder.beginControlFlow(
+            "if (editor.$L != null)", d.getSimpleExpression());
+      }
       if (d.isDelegateRequired()) {
         initializeSubDelegatesBuilder
-            .beginControlFlow("if (editor.$L != null)", d.getSimpleExpression())
             .addStatement("$L = new $T()", delegateFields.get(d), subDelegateType)
             .addStatement(
-                "addSubDelegate($L, appendPath(\"$L\"), editor.$L)",
+                "addSubDelegate($L, $L, editor.$L)",
                 delegateFields.get(d),
-                d.getDeclaredPath(),
+                pathFields.get(d),
                 d.getSimpleExpression())
             .endControlFlow();
       }
     }
     delegateTypeBuilder.addMethod(initializeSubDelegatesBuilder.build());
 
+    if (!activeFields.isEmpty()) {
+      addLazySubDelegates(
+          delegateTypeBuilder, editorModel, data, delegateFields, pathFields, activeFields);
+    }
+
     MethodSpec.Builder acceptBuilder =
         MethodSpec.methodBuilder("accept")
             .addModifiers(Modifier.PUBLIC)
@@ -368,32 +480,81 @@ public class DriverProcessor extends AbstractProcessor {
             .addAnnotation(Override.class)
             .addParameter(EditorVisitor.class, "visitor");
     if (data.isCompositeEditor()) {
-      acceptBuilder.addStatement("getEditorChain().accept(visitor)");
+      acceptBuilder
+          .addStatement("getEditorChain().accept(visitor)")
+          .beginControlFlow("if (isTraversalHalted())")
+          .addStatement("return")
+          .endControlFlow();
     }
+    int index = 0;
     for (EditorProperty d : editorModel.getEditorData(data.getEditorType())) {
       if (d.isDelegateRequired()) {
         acceptBuilder.beginControlFlow("if ($L != null)", delegateFields.get(d));
       } else {
         acceptBuilder.beginControlFlow("");
       }
-      ClassName editorContextName = getEditorContext(data, d);
-      acceptBuilder.addStatement(
-          "$T ctx = new $T(getObject(), editor.$L, appendPath(\"$L\"))",
-          editorContextName,
-          editorContextName,
-          d.getSimpleExpression(),
-          d.getDeclaredPath());
+      // A traversal started from within another one gets contexts of its own
+      String contextField = contextFields.get(d);
+      acceptBuilder
+          .addStatement(
+              "$T ctx = $L",
+              compactContexts
+                  ? ClassName.get(IndexedEditorContext.class)
+                  : getEditorContext(data, d),
+              contextField)
+          .beginControlFlow("if (canReuseContext(ctx, editor.$L))", d.getSimpleExpression());
+      if (compactContexts) {
+        acceptBuilder
+            .addStatement("ctx.rebind($L)", pathFields.get(d))
+            .nextControlFlow("else")
+            .addStatement(
+                "ctx = $L = new $T(this, $L, $L.class, editor.$L, $L)",
+                contextField,
+                IndexedEditorContext.class,
+                index++,
+                MoreTypes.asElement(d.getEditedType()),
+                d.getSimpleExpression(),
+                pathFields.get(d));
+      } else {
+        acceptBuilder
+            .addStatement("ctx.rebind(getObject(), $L)", pathFields.get(d))
+            .nextControlFlow("else")
+            .addStatement(
+                "ctx = $L = new $T(getObject(), editor.$L, $L)",
+                contextField,
+                getEditorContext(data, d),
+                d.getSimpleExpression(),
+                pathFields.get(d));
+      }
+      acceptBuilder.endControlFlow();
       if (d.isDelegateRequired()) {
         acceptBuilder.addStatement("ctx.setEditorDelegate($L)", delegateFields.get(d));
         acceptBuilder.addStatement("ctx.traverse(visitor, $L)", delegateFields.get(d));
       } else {
         acceptBuilder.addStatement("ctx.traverse(visitor, null)");
       }
+      // Stop visiting the siblings once a visitor has halted the traversal
+      acceptBuilder
+          .beginControlFlow("if (ctx.isHalted())")
+          .addStatement("haltTraversal()")
+          .addStatement("return")
+          .endControlFlow();
       acceptBuilder.endControlFlow();
     }
 
     delegateTypeBuilder.addMethod(acceptBuilder.build());
 
+    if (compactContexts && !contextFields.isEmpty()) {
+      addPropertyAccessors(delegateTypeBuilder, editorModel, data);
+    }
+
+    if (generateDirectAccess) {
+      addDirectAccess(delegateTypeBuilder, editorModel, data, delegateFields);
+    }
+    if (generateDirtyChecks) {
+      addDirtyChecks(delegateTypeBuilder, editorModel, data, delegateFields, valueFields);
+    }
+
     if (data.isCompositeEditor()) {
       ClassName compositeEditorDelegateType =
           getEditorDelegate(editorModel, data.getComposedData());
@@ -426,6 +587,344 @@ public class DriverProcessor extends AbstractProcessor {
     return ClassName.get(packageName, delegateSimpleName);
   }
 
+  /**
+   * Adds the methods through which the {@link IndexedEditorContext}s of a delegate read and write
+   * its properties. The index of a property is its position in the editor data.
+   */
+  private void addPropertyAccessors(
+      TypeSpec.Builder delegateTypeBuilder, EditorModel editorModel, EditorProperty data) {
+    delegateTypeBuilder.addMethod(
+        MethodSpec.methodBuilder("hasPropertyAccessors")
+            .addModifiers(Modifier.PROTECTED)
+            .returns(boolean.class)
+            .addAnnotation(Override.class)
+            .addStatement("return true")
+            .build());
+
+    MethodSpec.Builder getPropertyValueBuilder =
+        MethodSpec.methodBuilder("getPropertyValue")
+            .addModifiers(Modifier.PROTECTED)
+            .returns(Object.class)
+            .addAnnotation(Override.class)
+            .addParameter(int.class, "index")
+            .beginControlFlow("switch (index)");
+    MethodSpec.Builder canSetPropertyValueBuilder =
+        MethodSpec.methodBuilder("canSetPropertyValue")
+            .addModifiers(Modifier.PROTECTED)
+            .returns(boolean.class)
+            .addAnnotation(Override.class)
+            .addParameter(int.class, "index")
+            .beginControlFlow("switch (index)");
+    MethodSpec.Builder setPropertyValueBuilder =
+        MethodSpec.methodBuilder("setPropertyValue")
+            .addModifiers(Modifier.PROTECTED)
+            .returns(void.class)
+            .addAnnotation(Override.class)
+            .addParameter(int.class, "index")
+            .addParameter(Object.class, "value")
+            .beginControlFlow("switch (index)");
+    int index = 0;
+    for (EditorProperty d : editorModel.getEditorData(data.getEditorType())) {
+      String ownerCondition = getOwnerCondition(d);
+      getPropertyValueBuilder.addCode(
+          "case $L:\n$>return ($L) ? object$L$L : null;\n$<",
+          index,
+          ownerCondition,
+          d.getBeanOwnerExpression(),
+          d.getGetterExpression());
+      if (d.getSetterName() != null) {
+        canSetPropertyValueBuilder.addCode("case $L:\n$>return $L;\n$<", index, ownerCondition);
+        setPropertyValueBuilder.addCode(
+            "case $L:\n$>object$L.$L(($T) value);\nreturn;\n$<",
+            index,
+            d.getBeanOwnerExpression(),
+            d.getSetterName(),
+            ClassName.get(d.getEditedType()));
+      }
+      index++;
+    }
+    getPropertyValueBuilder
+        .addCode("default:\n$>return super.getPropertyValue(index);\n$<")
+        .endControlFlow();
+    canSetPropertyValueBuilder.addCode("default:\n$>return false;\n$<").endControlFlow();
+    setPropertyValueBuilder
+        .addCode("default:\n$>super.setPropertyValue(index, value);\n$<")
+        .endControlFlow();
+    delegateTypeBuilder.addMethod(getPropertyValueBuilder.build());
+    delegateTypeBuilder.addMethod(canSetPropertyValueBuilder.build());
+    delegateTypeBuilder.addMethod(setPropertyValueBuilder.build());
+  }
+
+  /** Returns the condition under which the owner of a property can be read from the object. */
+  private String getOwnerCondition(EditorProperty d) {
+    String guard = d.getBeanOwnerGuard("object");
+    return "true".equals(guard) ? "object != null" : "object != null && " + guard;
+  }
+
+  /**
+   * Adds the methods which do what the Initializer and the Flusher would do to the properties of a
+   * delegate, using the getters and setters of the edited object directly.
+   */
+  private void addDirectAccess(
+      TypeSpec.Builder delegateTypeBuilder,
+      EditorModel editorModel,
+      EditorProperty data,
+      Map<EditorProperty, String> delegateFields) {
+    delegateTypeBuilder.addMethod(
+        MethodSpec.methodBuilder("hasDirectAccess")
+            .addModifiers(Modifier.PROTECTED)
+            .returns(boolean.class)
+            .addAnnotation(Override.class)
+            .addStatement("return true")
+            .build());
+
+    MethodSpec.Builder doEditDirectBuilder =
+        MethodSpec.methodBuilder("doEditDirect")
+            .addModifiers(Modifier.PROTECTED)
+            .returns(void.class)
+            .addAnnotation(Override.class);
+    MethodSpec.Builder doFlushDirectBuilder =
+        MethodSpec.methodBuilder("doFlushDirect")
+            .addModifiers(Modifier.PROTECTED)
+            .returns(void.class)
+            .addAnnotation(Override.class);
+    for (EditorProperty d : editorModel.getEditorData(data.getEditorType())) {
+      String ownerCondition = getOwnerCondition(d);
+      CodeBlock modelValue =
+          CodeBlock.of(
+              "($L) ? object$L$L : null",
+              ownerCondition,
+              d.getBeanOwnerExpression(),
+              d.getGetterExpression());
+      // Leaf editors are read directly, others only if they turn out to be leaves at runtime
+      CodeBlock leafCondition =
+          d.isLeafValueEditor()
+              ? CodeBlock.of("editor.$L != null", d.getSimpleExpression())
+              : CodeBlock.of(
+                  "editor.$L instanceof $T", d.getSimpleExpression(), LeafValueEditor.class);
+      // Cast, since the type of the editor field is erased
+      CodeBlock leafValue =
+          d.isLeafValueEditor()
+              ? CodeBlock.of(
+                  "($T) editor.$L.getValue()",
+                  ClassName.get(d.getEditedType()),
+                  d.getSimpleExpression())
+              : CodeBlock.of(
+                  "($T) (($T<?>) editor.$L).getValue()",
+                  ClassName.get(d.getEditedType()),
+                  LeafValueEditor.class,
+                  d.getSimpleExpression());
+
+      if (d.isDelegateRequired()) {
+        String subDelegate = delegateFields.get(d);
+        doEditDirectBuilder
+            .beginControlFlow("if ($L != null)", subDelegate)
+            .addStatement("editSubDelegate($L, $L)", subDelegate, modelValue)
+            .endControlFlow();
+        doFlushDirectBuilder.beginControlFlow("if ($L != null)", subDelegate);
+        if (d.getSetterName() == null) {
+          doFlushDirectBuilder.addStatement("flushSubDelegate($L)", subDelegate);
+        } else {
+          doFlushDirectBuilder
+              .beginControlFlow(
+                  "if (flushSubDelegate($L) && $L && $L)",
+                  subDelegate,
+                  leafCondition,
+                  ownerCondition)
+              .addStatement(
+                  "object$L.$L($L)", d.getBeanOwnerExpression(), d.getSetterName(), leafValue)
+              .addStatement("countWrite()")
+              .endControlFlow();
+        }
+        doFlushDirectBuilder.endControlFlow();
+      } else {
+        if (d.isLeafValueEditor() || d.isValueAwareEditor()) {
+          doEditDirectBuilder
+              .beginControlFlow("if (editor.$L != null)", d.getSimpleExpression())
+              .addStatement("editor.$L.setValue($L)", d.getSimpleExpression(), modelValue)
+              .endControlFlow();
+        } else {
+          doEditDirectBuilder.addStatement(
+              "setEditorValue(editor.$L, $L)", d.getSimpleExpression(), modelValue);
+        }
+        if (d.isValueAwareEditor()) {
+          doFlushDirectBuilder
+              .beginControlFlow("if (editor.$L != null && shouldFlush())", d.getSimpleExpression())
+              .addStatement("editor.$L.flush()", d.getSimpleExpression())
+              .endControlFlow();
+        } else {
+          doFlushDirectBuilder.addStatement("flushEditor(editor.$L)", d.getSimpleExpression());
+        }
+        if (d.getSetterName() != null) {
+          doFlushDirectBuilder
+              .beginControlFlow("if ($L && shouldFlush() && $L)", leafCondition, ownerCondition)
+              .addStatement(
+                  "object$L.$L($L)", d.getBeanOwnerExpression(), d.getSetterName(), leafValue)
+              .addStatement("countWrite()")
+              .endControlFlow();
+        }
+      }
+    }
+    delegateTypeBuilder.addMethod(doEditDirectBuilder.build());
+    delegateTypeBuilder.addMethod(doFlushDirectBuilder.build());
+  }
+
+  /**
+   * Adds the methods which let the driver find the lazy sub-delegates by index and create them once
+   * they are activated.
+   */
+  private void addLazySubDelegates(
+      TypeSpec.Builder delegateTypeBuilder,
+      EditorModel editorModel,
+      EditorProperty data,
+      Map<EditorProperty, String> delegateFields,
+      Map<EditorProperty, String> pathFields,
+      Map<EditorProperty, String> activeFields) {
+    MethodSpec.Builder getLazySubDelegatePathBuilder =
+        MethodSpec.methodBuilder("getLazySubDelegatePath")
+            .addModifiers(Modifier.PROTECTED)
+            .returns(String.class)
+            .addAnnotation(Override.class)
+            .addParameter(int.class, "index")
+            .beginControlFlow("switch (index)");
+    MethodSpec.Builder activateLazySubDelegateBuilder =
+        MethodSpec.methodBuilder("activateLazySubDelegate")
+            .addModifiers(Modifier.PROTECTED)
+            .returns(boolean.class)
+            .addAnnotation(Override.class)
+            .addParameter(int.class, "index")
+            .beginControlFlow("switch (index)");
+    int index = 0;
+    for (EditorProperty d : editorModel.getEditorData(data.getEditorType())) {
+      if (!d.isLazy()) {
+        continue;
+      }
+      String active = activeFields.get(d);
+      getLazySubDelegatePathBuilder.addCode("case $L:\n$>return $L;\n$<", index, pathFields.get(d));
+      activateLazySubDelegateBuilder
+          .addCode("case $L:\n$>", index++)
+          .beginControlFlow("if ($L)", active)
+          .addStatement("return false")
+          .endControlFlow()
+          .addStatement("$L = true", active)
+          .beginControlFlow("if (editor.$L != null)", d.getSimpleExpression())
+          .addStatement("$L = new $T()", delegateFields.get(d), getEditorDelegate(editorModel, d))
+          .addStatement(
+              "addSubDelegate($L, $L, editor.$L)",
+              delegateFields.get(d),
+              pathFields.get(d),
+              d.getSimpleExpression())
+          .endControlFlow()
+          .addStatement("return true$<");
+    }
+    getLazySubDelegatePathBuilder
+        .addCode("default:\n$>return super.getLazySubDelegatePath(index);\n$<")
+        .endControlFlow();
+    activateLazySubDelegateBuilder
+        .addCode("default:\n$>return super.activateLazySubDelegate(index);\n$<")
+        .endControlFlow();
+    delegateTypeBuilder.addMethod(getLazySubDelegatePathBuilder.build());
+    delegateTypeBuilder.addMethod(activateLazySubDelegateBuilder.build());
+  }
+
+  /**
+   * Adds the methods which snapshot the leaf values of a delegate and compare them with the current
+   * ones, without a visitor or a map.
+   */
+  private void addDirtyChecks(
+      TypeSpec.Builder delegateTypeBuilder,
+      EditorModel editorModel,
+      EditorProperty data,
+      Map<EditorProperty, String> delegateFields,
+      Map<EditorProperty, String> valueFields) {
+    delegateTypeBuilder.addMethod(
+        MethodSpec.methodBuilder("hasLeafSnapshots")
+            .addModifiers(Modifier.PROTECTED)
+            .returns(boolean.class)
+            .addAnnotation(Override.class)
+            .addStatement("return true")
+            .build());
+
+    MethodSpec.Builder snapshotLeafValuesBuilder =
+        MethodSpec.methodBuilder("snapshotLeafValues")
+            .addModifiers(Modifier.PROTECTED)
+            .returns(void.class)
+            .addAnnotation(Override.class);
+    MethodSpec.Builder snapshotLeafValueBuilder =
+        MethodSpec.methodBuilder("snapshotLeafValue")
+            .addModifiers(Modifier.PROTECTED)
+            .returns(void.class)
+            .addAnnotation(Override.class)
+            .addParameter(EditorContext.class, "ctx"); // raw, as the superclass is raw
+    MethodSpec.Builder isLeafValueChangedBuilder =
+        MethodSpec.methodBuilder("isLeafValueChanged")
+            .addModifiers(Modifier.PROTECTED)
+            .returns(boolean.class)
+            .addAnnotation(Override.class)
+            .addParameter(EditorContext.class, "ctx"); // raw, as the superclass is raw
+    MethodSpec.Builder getLeafSnapshotBuilder =
+        MethodSpec.methodBuilder("getLeafSnapshot")
+            .addModifiers(Modifier.PROTECTED)
+            .returns(Object.class)
+            .addAnnotation(Override.class)
+            .addParameter(EditorContext.class, "ctx"); // raw, as the superclass is raw
+    MethodSpec.Builder haveLeafValuesChangedBuilder =
+        MethodSpec.methodBuilder("haveLeafValuesChanged")
+            .addModifiers(Modifier.PROTECTED)
+            .returns(boolean.class)
+            .addAnnotation(Override.class);
+    for (EditorProperty d : editorModel.getEditorData(data.getEditorType())) {
+      if (d.isDelegateRequired()) {
+        String subDelegate = delegateFields.get(d);
+        snapshotLeafValuesBuilder
+            .beginControlFlow("if ($L != null)", subDelegate)
+            .addStatement("snapshotSubDelegate($L)", subDelegate)
+            .endControlFlow();
+        haveLeafValuesChangedBuilder
+            .beginControlFlow(
+                "if ($L != null && hasSubDelegateChanges($L))", subDelegate, subDelegate)
+            .addStatement("return true")
+            .endControlFlow();
+      } else {
+        // Observable leaves are left to the driver's DirtTracker, whatever the declared type
+        String value = valueFields.get(d);
+        CodeBlock currentValue = CodeBlock.of("leafValueOf(editor.$L)", d.getSimpleExpression());
+        // Counted for the metrics, since hasChanges() reads the leaves without a traversal
+        CodeBlock readValue = CodeBlock.of("readLeaf(editor.$L)", d.getSimpleExpression());
+        CodeBlock snapshotValue = CodeBlock.of("snapshotLeaf(editor.$L)", d.getSimpleExpression());
+        snapshotLeafValuesBuilder.addStatement("$L = $L", value, snapshotValue);
+        snapshotLeafValueBuilder
+            .beginControlFlow("if (isContextOf(ctx, editor.$L))", d.getSimpleExpression())
+            .addStatement("$L = $L", value, snapshotValue)
+            .addStatement("return")
+            .endControlFlow();
+        isLeafValueChangedBuilder
+            .beginControlFlow("if (isContextOf(ctx, editor.$L))", d.getSimpleExpression())
+            .addStatement("return !$T.equals($L, $L)", Objects.class, value, currentValue)
+            .endControlFlow();
+        getLeafSnapshotBuilder
+            .beginControlFlow("if (isContextOf(ctx, editor.$L))", d.getSimpleExpression())
+            .addStatement("return $L", value)
+            .endControlFlow();
+        haveLeafValuesChangedBuilder
+            .beginControlFlow("if (!$T.equals($L, $L))", Objects.class, value, readValue)
+            .addStatement("return true")
+            .endControlFlow();
+      }
+    }
+    haveLeafValuesChangedBuilder.addStatement("return false");
+
+    delegateTypeBuilder.addMethod(snapshotLeafValuesBuilder.build());
+    if (!valueFields.isEmpty()) {
+      delegateTypeBuilder.addMethod(snapshotLeafValueBuilder.build());
+      isLeafValueChangedBuilder.addStatement("return super.isLeafValueChanged(ctx)");
+      delegateTypeBuilder.addMethod(isLeafValueChangedBuilder.build());
+      getLeafSnapshotBuilder.addStatement("return super.getLeafSnapshot(ctx)");
+      delegateTypeBuilder.addMethod(getLeafSnapshotBuilder.build());
+    }
+    delegateTypeBuilder.addMethod(haveLeafValuesChangedBuilder.build());
+  }
+
   private String escapedMaybeParameterizedBinaryName(TypeMirror editor) {
     /*
      * The parameterization of the editor type is included to ensure that a
@@ -489,8 +988,7 @@ public class DriverProcessor extends AbstractProcessor {
                     ClassName.get(AbstractEditorContext.class),
                     ClassName.get(data.getEditedType())));
 
-    contextTypeBuilder.addField(
-        ClassName.get(parent.getEditedType()), "parent", Modifier.PRIVATE, Modifier.FINAL);
+    contextTypeBuilder.addField(ClassName.get(parent.getEditedType()), "parent", Modifier.PRIVATE);
 
     contextTypeBuilder.addMethod(
         MethodSpec.constructorBuilder()
@@ -505,6 +1003,16 @@ public class DriverProcessor extends AbstractProcessor {
             .addStatement("this.parent = parent")
             .build());
 
+    contextTypeBuilder.addMethod(
+        MethodSpec.methodBuilder("rebind")
+            .addModifiers(Modifier.PUBLIC)
+            .returns(void.class)
+            .addParameter(ClassName.get(parent.getEditedType()), "parent")
+            .addParameter(String.class, "path")
+            .addStatement("this.parent = parent")
+            .addStatement("rebind(path)")
+            .build());
+
     contextTypeBuilder.addMethod(
         MethodSpec.methodBuilder("canSetInModel")
             .addModifiers(Modifier.PUBLIC)
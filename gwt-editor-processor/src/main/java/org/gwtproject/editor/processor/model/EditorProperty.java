@@ -57,7 +57,8 @@ public class EditorProperty {
       String path =
           getPath(field.getSimpleName().toString(), field.getAnnotation(Editor.Path.class));
 
-      return access(path, field.getSimpleName().toString(), field.asType());
+      return access(path, field.getSimpleName().toString(), field.asType())
+          .lazy(field.getAnnotation(Editor.Lazy.class) != null);
     }
 
     public Builder access(ExecutableElement method) {
@@ -65,7 +66,8 @@ public class EditorProperty {
       String path =
           getPath(method.getSimpleName().toString(), method.getAnnotation(Editor.Path.class));
 
-      return access(path, method.getSimpleName().toString() + "()", method.getReturnType());
+      return access(path, method.getSimpleName().toString() + "()", method.getReturnType())
+          .lazy(method.getAnnotation(Editor.Lazy.class) != null);
     }
 
     private String getPath(String memberName, Editor.Path pathAnnotation) {
@@ -263,6 +265,10 @@ public class EditorProperty {
       return this;
     }
 
+    public Builder lazy(boolean value) {
+      return peek(property -> property.isLazy = value);
+    }
+
     public Builder getterExpression(String value) {
       return peek(property -> property.getterExpression = value);
     }
@@ -332,6 +338,7 @@ public class EditorProperty {
   private boolean isLeaf;
   private boolean isCompositeEditor;
   private boolean isDelegateRequired;
+  private boolean isLazy;
   private boolean isValueAware;
   private String path;
   private TypeMirror propertyOwnerType;
@@ -376,6 +383,16 @@ public class EditorProperty {
     return isDelegateRequired;
   }
 
+  /**
+   * Returns {@code true} if the editor is annotated with {@code @Editor.Lazy} and has a delegate
+   * whose creation can be deferred.
+   *
+   * @return lazy
+   */
+  public boolean isLazy() {
+    return isLazy && isDelegateRequired;
+  }
+
   public boolean isLeafValueEditor() {
     return isLeaf;
   }
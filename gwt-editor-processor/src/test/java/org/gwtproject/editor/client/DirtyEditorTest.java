@@ -17,6 +17,7 @@ package org.gwtproject.editor.client;
 
 import static org.gwtproject.editor.client.SimpleBeanEditorTest.*;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import junit.framework.TestCase;
@@ -25,6 +26,7 @@ import org.gwtproject.editor.client.adapters.ListEditor;
 import org.gwtproject.editor.client.adapters.OptionalFieldEditor;
 import org.gwtproject.editor.client.adapters.SimpleEditor;
 import org.gwtproject.editor.client.annotation.IsDriver;
+import org.gwtproject.event.shared.HandlerRegistration;
 
 /** */
 public class DirtyEditorTest extends TestCase {
@@ -58,6 +60,48 @@ public class DirtyEditorTest extends TestCase {
     assertTrue(driver.isDirty());
   }
 
+  public void testDirtyWithSnapshotStrategy() {
+    PersonEditor editor = new PersonEditor();
+    PersonEditorDriver driver = new PersonEditorDriver_Impl();
+    driver.initialize(editor);
+    driver.setSnapshotStrategy(String.class, SnapshotStrategy.fingerprint());
+    driver.edit(person);
+    assertFalse(driver.isDirty());
+
+    editor.addressEditor.city.setValue("Foo");
+    assertTrue(driver.isDirty());
+    editor.addressEditor.city.setValue("City");
+    assertFalse(driver.isDirty());
+
+    // Only a key was kept, so the old value comes from the model
+    editor.name.setValue("Charles");
+    person.name = "Alan";
+    List<EditorChange> changes = driver.flushChanges();
+    assertEquals(1, changes.size());
+    assertEquals("Alan", changes.get(0).getOldValue());
+    assertEquals("Charles", changes.get(0).getNewValue());
+
+    // A custom key decides which differences count
+    driver.setSnapshotStrategy(
+        String.class,
+        new SnapshotStrategy() {
+          @Override
+          public Object keyOf(Object value) {
+            return value == null ? null : ((String) value).toLowerCase();
+          }
+        });
+    driver.edit(person);
+    editor.name.setValue("ALAN");
+    assertFalse(driver.isDirty());
+    editor.name.setValue("Alice");
+    assertTrue(driver.isDirty());
+
+    driver.setSnapshotStrategy(String.class, null);
+    driver.edit(person);
+    editor.name.setValue("ALAN");
+    assertTrue(driver.isDirty());
+  }
+
   public void testDirtyWithDelegate() {
     PersonEditorWithDelegate editor = new PersonEditorWithDelegate();
     PersonEditorWithDelegateDriver driver =
@@ -205,6 +249,97 @@ public class DirtyEditorTest extends TestCase {
     assertTrue(driver.isDirty());
   }
 
+  static class ObservableEditor<T> implements ObservableLeafValueEditor<T> {
+    final List<ValueChangeListener> listeners = new ArrayList<ValueChangeListener>();
+    int reads;
+    private T value;
+
+    @Override
+    public HandlerRegistration addValueChangeListener(final ValueChangeListener listener) {
+      listeners.add(listener);
+      return new HandlerRegistration() {
+        @Override
+        public void removeHandler() {
+          listeners.remove(listener);
+        }
+      };
+    }
+
+    @Override
+    public T getValue() {
+      reads++;
+      return value;
+    }
+
+    @Override
+    public void setValue(T value) {
+      this.value = value;
+      for (ValueChangeListener listener : new ArrayList<ValueChangeListener>(listeners)) {
+        listener.onValueChange(this);
+      }
+    }
+  }
+
+  static class ObservablePersonEditor implements Editor<Person> {
+    AddressEditor addressEditor = new AddressEditor();
+    ObservableEditor<String> name = new ObservableEditor<String>();
+
+    @Path("manager.name")
+    ObservableEditor<String> managerName = new ObservableEditor<String>();
+  }
+
+  @IsDriver
+  interface ObservablePersonEditorDriver
+      extends SimpleBeanEditorDriver<Person, ObservablePersonEditor> {}
+
+  public void testDirtyWithObservableEditors() {
+    ObservablePersonEditor editor = new ObservablePersonEditor();
+    ObservablePersonEditorDriver driver = new DirtyEditorTest_ObservablePersonEditorDriver_Impl();
+    driver.initialize(editor);
+    driver.edit(person);
+
+    // Freshly-initialized should not be dirty
+    assertFalse(driver.isDirty());
+
+    editor.name.setValue("blah");
+    assertTrue(driver.isDirty());
+
+    // Reset to original value
+    editor.name.setValue("Alice");
+    editor.name.reads = 0;
+    assertFalse(driver.isDirty());
+
+    // Observable leaves are not polled by isDirty()
+    assertEquals(0, editor.name.reads);
+
+    // Non-observable leaves are still checked
+    editor.addressEditor.city.setValue("Foo");
+    assertTrue(driver.isDirty());
+    editor.addressEditor.city.setValue("City");
+    assertFalse(driver.isDirty());
+
+    // Try a null value
+    editor.managerName.setValue(null);
+    assertTrue(driver.isDirty());
+    editor.managerName.setValue("Bill");
+    assertFalse(driver.isDirty());
+  }
+
+  public void testEditReleasesObservableListeners() {
+    ObservablePersonEditor editor = new ObservablePersonEditor();
+    ObservablePersonEditorDriver driver = new DirtyEditorTest_ObservablePersonEditorDriver_Impl();
+    driver.initialize(editor);
+    driver.edit(person);
+    assertEquals(1, editor.name.listeners.size());
+
+    editor.name.setValue("blah");
+    assertTrue(driver.isDirty());
+
+    driver.edit(person);
+    assertEquals(1, editor.name.listeners.size());
+    assertFalse(driver.isDirty());
+  }
+
   Person person;
   Address personAddress;
   Person manager;
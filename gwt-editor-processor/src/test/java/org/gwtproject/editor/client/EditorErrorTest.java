@@ -23,6 +23,8 @@ import junit.framework.TestCase;
 import org.gwtproject.editor.client.adapters.EditorSource;
 import org.gwtproject.editor.client.adapters.ListEditor;
 import org.gwtproject.editor.client.annotation.IsDriver;
+import org.gwtproject.editor.client.impl.AbstractSimpleBeanEditorDriver;
+import org.gwtproject.editor.client.impl.DelegateMap;
 
 /** Tests error propagation in generated code. */
 public class EditorErrorTest extends TestCase {
@@ -30,10 +32,14 @@ public class EditorErrorTest extends TestCase {
       implements ValueAwareEditor<Address> {
 
     private EditorDelegate<Address> delegate;
+    String message = "Hello Errors!";
+    Object userData;
 
     @Override
     public void flush() {
-      delegate.recordError("Hello Errors!", null, null);
+      if (message != null) {
+        delegate.recordError(message, null, userData);
+      }
     }
 
     @Override
@@ -74,6 +80,21 @@ public class EditorErrorTest extends TestCase {
     }
   }
 
+  public static class PersonEditorReceivesErrorChanges extends PersonEditorReceivesErrors
+      implements HasEditorErrorChanges<Person> {
+    List<EditorError> added;
+    List<EditorError> removed;
+
+    @Override
+    public void changeErrors(List<EditorError> added, List<EditorError> removed) {
+      this.added = added;
+      this.removed = removed;
+      for (EditorError error : added) {
+        error.setConsumed(true);
+      }
+    }
+  }
+
   public static class Workgroup {
     List<Person> people = new ArrayList<Person>();
 
@@ -222,6 +243,106 @@ public class EditorErrorTest extends TestCase {
     assertEquals(0, driver.getErrors().size());
   }
 
+  public void testRepeatedFlushDoesNotAccumulateErrors() {
+    PersonEditorReceivesErrors editor = new PersonEditorReceivesErrors();
+    editor.addressEditor = new AddressEditorWithErrors();
+
+    Person p = new Person();
+    p.address = new Address();
+
+    PersonEditorDriver driver = new PersonEditorDriver_Impl();
+    driver.initialize(editor);
+    driver.edit(p);
+    driver.flush();
+    List<EditorError> first = editor.errors;
+    assertEquals(1, first.size());
+    // Consumed errors do not reach the driver
+    assertFalse(driver.hasErrors());
+
+    // The same error is not shown again, but stays consumed
+    driver.flush();
+    assertSame(first, editor.errors);
+    assertEquals(1, first.size());
+    assertFalse(driver.hasErrors());
+
+    // The editors may not modify the errors they were shown
+    try {
+      first.clear();
+      fail();
+    } catch (UnsupportedOperationException expected) {
+    }
+
+    // Different user data makes a different error
+    ((AddressEditorWithErrors) editor.addressEditor).userData = "data";
+    driver.flush();
+    assertNotSame(first, editor.errors);
+    assertEquals("data", editor.errors.get(0).getUserData());
+
+    ((AddressEditorWithErrors) editor.addressEditor).message = null;
+    driver.flush();
+    assertEquals(0, editor.errors.size());
+    assertFalse(driver.hasErrors());
+  }
+
+  public void testFlushPathsCollectsErrorsOfThoseBranches() {
+    PersonEditorReceivesErrors editor = new PersonEditorReceivesErrors();
+    editor.addressEditor = new AddressEditorWithErrors();
+
+    Person p = new Person();
+    p.address = new Address();
+
+    PersonEditorDriver driver = new PersonEditorDriver_Impl();
+    driver.initialize(editor);
+    driver.edit(p);
+    driver.flush("name");
+    assertFalse(driver.hasErrors());
+    assertNull(editor.errors);
+
+    // The person editor is not part of the flushed branch, so nothing consumes the error
+    driver.flush("address");
+    assertNull(editor.errors);
+    assertTrue(driver.hasErrors());
+    assertEquals(1, driver.getErrors().size());
+    assertEquals("address", driver.getErrors().get(0).getAbsolutePath());
+  }
+
+  public void testErrorChanges() {
+    PersonEditorReceivesErrorChanges editor = new PersonEditorReceivesErrorChanges();
+    AddressEditorWithErrors addressEditor = new AddressEditorWithErrors();
+    editor.addressEditor = addressEditor;
+
+    Person p = new Person();
+    p.address = new Address();
+
+    PersonEditorDriver driver = new PersonEditorDriver_Impl();
+    driver.initialize(editor);
+    driver.edit(p);
+    driver.flush();
+    assertEquals(1, editor.errors.size());
+    EditorError hello = editor.errors.get(0);
+    assertNull(editor.added);
+
+    driver.flush();
+    assertNull(editor.added);
+    assertFalse(driver.hasErrors());
+
+    addressEditor.message = "Goodbye Errors!";
+    driver.flush();
+    assertEquals(1, editor.added.size());
+    assertEquals("Goodbye Errors!", editor.added.get(0).getMessage());
+    assertEquals(1, editor.removed.size());
+    assertSame(hello, editor.removed.get(0));
+    assertFalse(driver.hasErrors());
+    EditorError goodbye = editor.added.get(0);
+
+    addressEditor.message = null;
+    driver.flush();
+    assertEquals(0, editor.added.size());
+    assertEquals(1, editor.removed.size());
+    assertSame(goodbye, editor.removed.get(0));
+    assertFalse(driver.hasErrors());
+  }
+
   public void testSimpleError() {
     PersonEditorReceivesErrors editor = new PersonEditorReceivesErrors();
     editor.addressEditor = new AddressEditorWithErrors();
@@ -249,6 +370,33 @@ public class EditorErrorTest extends TestCase {
     assertSame(editor.addressEditor, error.getEditor());
   }
 
+  public void testViolationKeyMethod() {
+    Person p = new Person();
+    p.name = "Alice";
+    PersonEditorDriver driver = new PersonEditorDriver_Impl();
+    driver.initialize(new PersonEditor());
+    driver.edit(p);
+
+    // A violation reported on a copy of the edited object is not matched by default
+    Person copy = new Person();
+    copy.name = "Alice";
+    List<ConstraintViolation<?>> violations =
+        Arrays.<ConstraintViolation<?>>asList(createViolation("msg", copy, "name"));
+    assertFalse(driver.setConstraintViolations(violations));
+
+    ((AbstractSimpleBeanEditorDriver<?, ?>) driver)
+        .setViolationKeyMethod(
+            new DelegateMap.KeyMethod() {
+              @Override
+              public Object key(Object object) {
+                return object instanceof Person ? ((Person) object).name : object;
+              }
+            });
+    assertTrue(driver.setConstraintViolations(violations));
+    assertEquals(1, driver.getErrors().size());
+    assertEquals("name", driver.getErrors().get(0).getAbsolutePath());
+  }
+
   public void testUnmatchedConstraintViolationsHasErrors() {
     Address a = new Address();
     Person p = new Person();
@@ -342,6 +490,75 @@ public class EditorErrorTest extends TestCase {
     assertSame(editor, error.getEditor());
   }
 
+  public void testPathNodeViolations() {
+    Person p1 = new Person();
+    p1.address = new Address();
+    Person p2 = new Person();
+    p2.address = new Address();
+
+    Workgroup workgroup = new Workgroup();
+    workgroup.people.addAll(Arrays.asList(p1, p2));
+
+    WorkgroupNestedErrorsEditorDriver driver =
+        new EditorErrorTest_WorkgroupNestedErrorsEditorDriver_Impl();
+    WorkgroupNestedErrorsEditor editor = new WorkgroupNestedErrorsEditor();
+    driver.initialize(editor);
+    driver.edit(workgroup);
+
+    ConstraintViolation<Workgroup> e1 =
+        createViolation(
+            "msg1",
+            workgroup,
+            "people[1].address.city",
+            node("people", null),
+            node("address", 1),
+            node("city", null));
+    ConstraintViolation<Workgroup> e2 =
+        createViolation("msg2", workgroup, "people[0]", node("people", null), node(null, 0));
+    ConstraintViolation<Workgroup> e3 =
+        createViolation("msg3", workgroup, "people[5].name", node("people", null), node("name", 5));
+    ConstraintViolation<Workgroup> e4 = createViolation("msg4", workgroup, "people[7].address");
+    driver.setConstraintViolations(Arrays.<ConstraintViolation<?>>asList(e1, e2, e3, e4));
+
+    List<EditorError> errors = driver.getErrors();
+    assertEquals(errors.toString(), 3, errors.size());
+
+    // Leaf editors are resolved through the list index
+    PersonEditorReceivesErrors second = editor.people.getEditors().get(1);
+    EditorError error = errors.get(0);
+    assertEquals("msg1", error.getMessage());
+    assertEquals("people[1].address.city", error.getAbsolutePath());
+    assertSame(second.addressEditor.city, error.getEditor());
+
+    // Unknown indexes fall back past the list to the root editor, whose errors are collected last
+    error = errors.get(1);
+    assertEquals("msg3", error.getMessage());
+    assertEquals("people[5].name", error.getAbsolutePath());
+    assertSame(editor, error.getEditor());
+    error = errors.get(2);
+    assertEquals("msg4", error.getMessage());
+    assertEquals("people[7].address", error.getAbsolutePath());
+    assertSame(editor, error.getEditor());
+
+    // Element delegates receive the errors on the element itself
+    PersonEditorReceivesErrors first = editor.people.getEditors().get(0);
+    assertEquals(1, first.errors.size());
+    assertEquals("msg2", first.errors.get(0).getMessage());
+    assertEquals("people[0]", first.errors.get(0).getAbsolutePath());
+    assertEquals("", first.errors.get(0).getPath());
+    assertTrue(second.errors.isEmpty());
+
+    // A refreshed branch stays in the violation index
+    p2.address = new Address();
+    p2.address.city = "Pushed";
+    driver.refresh("people[1].address");
+    driver.setConstraintViolations(Arrays.<ConstraintViolation<?>>asList(e1));
+    assertEquals("Pushed", second.addressEditor.city.getValue());
+    errors = driver.getErrors();
+    assertEquals(errors.toString(), 1, errors.size());
+    assertSame(second.addressEditor.city, errors.get(0).getEditor());
+  }
+
   /**
    * Test for IndexOutOfBoundsException in getPath() when called on a leaf editor error display.
    *
@@ -399,4 +616,48 @@ public class EditorErrorTest extends TestCase {
             })
         .build();
   }
+
+  private Path.Node node(final String name, final Integer index) {
+    return new Path.Node() {
+      @Override
+      public String getName() {
+        return name;
+      }
+
+      @Override
+      public boolean isInIterable() {
+        return index != null;
+      }
+
+      @Override
+      public Integer getIndex() {
+        return index;
+      }
+
+      @Override
+      public Object getKey() {
+        return null;
+      }
+    };
+  }
+
+  private <T> ConstraintViolation<T> createViolation(
+      String msg, T rootBean, final String path, final Path.Node... nodes) {
+    return new ConstraintViolationImpl.Builder<T>()
+        .setMessage(msg)
+        .setRootBean(rootBean)
+        .setPropertyPath(
+            new Path() {
+              @Override
+              public Iterator<Node> iterator() {
+                return Arrays.asList(nodes).iterator();
+              }
+
+              @Override
+              public String toString() {
+                return path;
+              }
+            })
+        .build();
+  }
 }
@@ -20,10 +20,16 @@ import java.util.Arrays;
 import java.util.List;
 import junit.framework.TestCase;
 import org.gwtproject.editor.client.*;
+import org.gwtproject.editor.client.adapters.EditorSource;
+import org.gwtproject.editor.client.adapters.ListEditor;
 import org.gwtproject.editor.client.adapters.SimpleEditor;
 import org.gwtproject.editor.client.annotation.IsDriver;
 
 public class DelegateMapTest extends TestCase {
+  @IsDriver
+  interface AddressListEditorDriver
+      extends SimpleBeanEditorDriver<List<Address>, ListEditor<Address, AddressEditor>> {}
+
   class AddressCoEditorView extends AddressEditor implements IsEditor<AddressEditor> {
     private AddressEditor addressEditor = new AddressEditor();
 
@@ -46,6 +52,10 @@ public class DelegateMapTest extends TestCase {
   interface PersonEditorWithCoAddressEditorViewDriver
       extends SimpleBeanEditorDriver<Person, PersonEditorWithCoAddressEditorView> {}
 
+  @IsDriver
+  interface StringListEditorDriver
+      extends SimpleBeanEditorDriver<List<String>, ListEditor<String, SimpleEditor<String>>> {}
+
   class SimpleEditorWithDelegate<T> extends SimpleEditor<T> implements HasEditorDelegate<T> {
     EditorDelegate<T> delegate;
 
@@ -84,6 +94,178 @@ public class DelegateMapTest extends TestCase {
     assertSame(editor.managerName, map.getEditorByPath("manager.name").get(0));
   }
 
+  public void testIndexedEditorContextRequiresPropertyAccessors() {
+    AbstractEditorDelegate<?, ?> delegate = driver.getDelegate();
+    try {
+      new IndexedEditorContext<String>(delegate, 0, String.class, editor.name, "name");
+      assertTrue(delegate.hasPropertyAccessors());
+    } catch (IllegalArgumentException expected) {
+      assertFalse(delegate.hasPropertyAccessors());
+    }
+  }
+
+  public void testIdentityKeys() {
+    final int[] equalityCalls = {0};
+    Person copy =
+        new Person() {
+          @Override
+          public boolean equals(Object obj) {
+            equalityCalls[0]++;
+            return obj instanceof Person;
+          }
+
+          @Override
+          public int hashCode() {
+            equalityCalls[0]++;
+            return 0;
+          }
+        };
+    copy.setAddress(person.getAddress());
+    copy.setManager(person.getManager());
+    driver.edit(copy);
+    equalityCalls[0] = 0;
+
+    DelegateMap identityMap = DelegateMap.of(driver, DelegateMap.IDENTITY_HASH);
+    assertEquals(Arrays.asList(editor), editors(identityMap, copy));
+    assertNull(identityMap.get(person));
+    assertEquals(0, equalityCalls[0]);
+
+    // The default key method compares the objects with their own equality methods
+    DelegateMap equalityMap = DelegateMap.of(driver, DelegateMap.IDENTITY);
+    assertEquals(Arrays.asList(editor), editors(equalityMap, copy));
+    assertTrue(equalityCalls[0] > 0);
+  }
+
+  public void testIntKeys() {
+    AddressListEditorDriver listDriver = new DelegateMapTest_AddressListEditorDriver_Impl();
+    ListEditor<Address, AddressEditor> listEditor =
+        ListEditor.of(
+            new EditorSource<AddressEditor>() {
+              @Override
+              public AddressEditor create(int index) {
+                return new AddressEditor();
+              }
+            });
+    listDriver.initialize(listEditor);
+    List<Address> addresses = new ArrayList<Address>();
+    for (int i = 0; i < 40; i++) {
+      Address address = new Address();
+      address.setCity(String.valueOf(i * 1000));
+      addresses.add(address);
+    }
+    listDriver.edit(addresses);
+
+    DelegateMap.IntKeyMethod byCity =
+        new DelegateMap.IntKeyMethod() {
+          @Override
+          public boolean hasKey(Object object) {
+            return object instanceof Address;
+          }
+
+          @Override
+          public int intKey(Object object) {
+            return Integer.parseInt(((Address) object).getCity());
+          }
+        };
+    DelegateMap tracked = DelegateMap.ofTracked(listDriver, byCity);
+
+    // Lookups only compare the ids
+    Address other = new Address();
+    other.setCity("7000");
+    assertEquals("[7]", tracked.get(other).get(0).getPath());
+    assertEquals("[7]", tracked.getRaw(7000).get(0).getPath());
+    assertEquals("[7]", tracked.getRaw(Integer.valueOf(7000)).get(0).getPath());
+    assertNull(tracked.get(addresses));
+
+    // Removed entries leave the other ones reachable
+    for (int i = 0; i < 10; i++) {
+      listEditor.getList().remove(0);
+    }
+    for (int i = 0; i < 40; i++) {
+      other.setCity(String.valueOf(i * 1000));
+      if (i < 10) {
+        assertNull(tracked.get(other));
+      } else {
+        assertEquals(1, tracked.get(other).size());
+      }
+    }
+    int count = 0;
+    for (AbstractEditorDelegate<?, ?> delegate : tracked) {
+      count++;
+    }
+    assertEquals(30, count);
+
+    // An entry is removed under the id it was indexed with, even if the id has changed since
+    listEditor.getList().get(0).setCity("99000");
+    listEditor.getList().remove(0);
+    other.setCity("10000");
+    assertNull(tracked.get(other));
+    assertNull(tracked.getRaw(99000));
+  }
+
+  public void testTracked() {
+    AddressListEditorDriver listDriver = new DelegateMapTest_AddressListEditorDriver_Impl();
+    ListEditor<Address, AddressEditor> listEditor =
+        ListEditor.of(
+            new EditorSource<AddressEditor>() {
+              @Override
+              public AddressEditor create(int index) {
+                return new AddressEditor();
+              }
+            });
+    listDriver.initialize(listEditor);
+    Address a0 = new Address();
+    Address a1 = new Address();
+    listDriver.edit(new ArrayList<Address>(Arrays.asList(a0, a1)));
+    DelegateMap tracked = DelegateMap.ofTracked(listDriver, DelegateMap.IDENTITY);
+    assertEquals("[1]", tracked.get(a1).get(0).getPath());
+
+    // Attached elements are indexed
+    Address a2 = new Address();
+    listEditor.getList().add(a2);
+    assertEquals("[2]", tracked.get(a2).get(0).getPath());
+    assertSame(listEditor.getEditors().get(2).city, tracked.getEditorByPath("[2].city").get(0));
+    assertEquals(1, tracked.getDelegatesByPath("[2]").size());
+
+    // Replaced elements are re-indexed, without duplicates
+    Address a3 = new Address();
+    listEditor.getList().set(0, a3);
+    assertNull(tracked.get(a0));
+    assertEquals("[0]", tracked.get(a3).get(0).getPath());
+    assertEquals(1, tracked.getEditorByPath("[0].city").size());
+
+    // Detached elements are unindexed
+    listEditor.getList().remove(2);
+    assertNull(tracked.get(a2));
+    assertNull(tracked.getEditorByPath("[2].city"));
+
+    // An invalidated map is no longer updated
+    tracked.invalidate();
+    listEditor.getList().add(a2);
+    assertNull(tracked.get(a2));
+  }
+
+  public void testTrackedFlush() {
+    StringListEditorDriver listDriver = new DelegateMapTest_StringListEditorDriver_Impl();
+    ListEditor<String, SimpleEditor<String>> listEditor =
+        ListEditor.of(
+            new EditorSource<SimpleEditor<String>>() {
+              @Override
+              public SimpleEditor<String> create(int index) {
+                return SimpleEditor.of();
+              }
+            });
+    listDriver.initialize(listEditor);
+    listDriver.edit(new ArrayList<String>(Arrays.asList("foo", "bar")));
+    DelegateMap tracked = DelegateMap.ofTracked(listDriver, DelegateMap.IDENTITY);
+
+    // Flushing a leaf element replaces the object of its delegate
+    listEditor.getEditors().get(1).setValue("baz");
+    listDriver.flush();
+    assertNull(tracked.get("bar"));
+    assertEquals("[1]", tracked.get("baz").get(0).getPath());
+  }
+
   public void setUp() throws Exception {
     Address a = new Address();
     a.setCity("city");
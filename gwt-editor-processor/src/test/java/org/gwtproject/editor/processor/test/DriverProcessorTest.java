@@ -17,10 +17,18 @@ package org.gwtproject.editor.processor.test;
 
 import static com.google.testing.compile.Compiler.javac;
 
+import com.google.common.io.ByteStreams;
 import com.google.testing.compile.Compilation;
 import com.google.testing.compile.CompilationSubject;
 import com.google.testing.compile.JavaFileObjects;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import javax.tools.JavaFileObject;
 import org.gwtproject.editor.processor.DriverProcessor;
 import org.junit.Test;
 
@@ -284,4 +292,133 @@ public class DriverProcessorTest {
             JavaFileObjects.forResource(
                 "org/gwtproject/editor/processor/test08/result/TestEditor08_SimpleBeanEditorDelegate.java"));
   }
+
+  @Test
+  public void testEditor09() {
+    Compilation compilation =
+        javac()
+            .withProcessors(new DriverProcessor())
+            .withOptions("-A" + DriverProcessor.GENERATE_DIRTY_CHECKS + "=true")
+            .compile(
+                Arrays.asList(
+                    JavaFileObjects.forResource(
+                        "org/gwtproject/editor/processor/test09/TestEditor09.java")));
+    CompilationSubject.assertThat(compilation).succeeded();
+    CompilationSubject.assertThat(compilation)
+        .generatedSourceFile("org/gwtproject/editor/processor/test09/TestEditor09_Driver_Impl")
+        .hasSourceEquivalentTo(
+            JavaFileObjects.forResource(
+                "org/gwtproject/editor/processor/test09/result/TestEditor09_Driver_Impl.java"));
+    CompilationSubject.assertThat(compilation)
+        .generatedSourceFile(
+            "org/gwtproject/editor/processor/test09/TestEditor09_SimpleBeanEditorDelegate")
+        .hasSourceEquivalentTo(
+            JavaFileObjects.forResource(
+                "org/gwtproject/editor/processor/test09/result/TestEditor09_SimpleBeanEditorDelegate.java"));
+  }
+
+  @Test
+  public void testEditor10() {
+    Compilation compilation =
+        javac()
+            .withProcessors(new DriverProcessor())
+            .withOptions("-A" + DriverProcessor.GENERATE_DIRECT_ACCESS + "=true")
+            .compile(
+                Arrays.asList(
+                    JavaFileObjects.forResource(
+                        "org/gwtproject/editor/processor/test10/TestEditor10.java")));
+    CompilationSubject.assertThat(compilation).succeeded();
+    CompilationSubject.assertThat(compilation)
+        .generatedSourceFile("org/gwtproject/editor/processor/test10/TestEditor10_Driver_Impl")
+        .hasSourceEquivalentTo(
+            JavaFileObjects.forResource(
+                "org/gwtproject/editor/processor/test10/result/TestEditor10_Driver_Impl.java"));
+    CompilationSubject.assertThat(compilation)
+        .generatedSourceFile(
+            "org/gwtproject/editor/processor/test10/TestEditor10_SimpleBeanEditorDelegate")
+        .hasSourceEquivalentTo(
+            JavaFileObjects.forResource(
+                "org/gwtproject/editor/processor/test10/result/TestEditor10_SimpleBeanEditorDelegate.java"));
+  }
+
+  @Test
+  public void testEditor11() {
+    Compilation compilation =
+        javac()
+            .withProcessors(new DriverProcessor())
+            .withOptions("-A" + DriverProcessor.COMPACT_CONTEXTS + "=true")
+            .compile(
+                Arrays.asList(
+                    JavaFileObjects.forResource(
+                        "org/gwtproject/editor/processor/test11/TestEditor11.java")));
+    CompilationSubject.assertThat(compilation).succeeded();
+    CompilationSubject.assertThat(compilation)
+        .generatedSourceFile("org/gwtproject/editor/processor/test11/TestEditor11_Driver_Impl")
+        .hasSourceEquivalentTo(
+            JavaFileObjects.forResource(
+                "org/gwtproject/editor/processor/test11/result/TestEditor11_Driver_Impl.java"));
+    CompilationSubject.assertThat(compilation)
+        .generatedSourceFile(
+            "org/gwtproject/editor/processor/test11/TestEditor11_SimpleBeanEditorDelegate")
+        .hasSourceEquivalentTo(
+            JavaFileObjects.forResource(
+                "org/gwtproject/editor/processor/test11/result/TestEditor11_SimpleBeanEditorDelegate.java"));
+  }
+
+  /**
+   * Runs the scenarios of TestEditor12 against delegates generated with dirty checks, whatever mode
+   * the other tests of this module were compiled in.
+   */
+  @Test
+  public void testEditor12() throws Exception {
+    Compilation compilation =
+        javac()
+            .withProcessors(new DriverProcessor())
+            .withOptions("-A" + DriverProcessor.GENERATE_DIRTY_CHECKS + "=true")
+            .compile(
+                Arrays.asList(
+                    JavaFileObjects.forResource(
+                        "org/gwtproject/editor/processor/test12/TestEditor12.java")));
+    CompilationSubject.assertThat(compilation).succeeded();
+    runTestMethods(compilation, "org.gwtproject.editor.processor.test12.TestEditor12");
+  }
+
+  /** Loads the classes compiled by {@code compilation} and calls the static test methods of one. */
+  private static void runTestMethods(Compilation compilation, String className) throws Exception {
+    final Map<String, byte[]> classFiles = new HashMap<String, byte[]>();
+    for (JavaFileObject file : compilation.generatedFiles()) {
+      if (file.getKind() == JavaFileObject.Kind.CLASS) {
+        String path = file.toUri().getPath();
+        String name = path.substring(path.indexOf('/', 1) + 1, path.length() - ".class".length());
+        try (InputStream in = file.openInputStream()) {
+          classFiles.put(name.replace('/', '.'), ByteStreams.toByteArray(in));
+        }
+      }
+    }
+    ClassLoader loader =
+        new ClassLoader(DriverProcessorTest.class.getClassLoader()) {
+          @Override
+          protected Class<?> findClass(String name) throws ClassNotFoundException {
+            byte[] bytes = classFiles.get(name);
+            if (bytes == null) {
+              throw new ClassNotFoundException(name);
+            }
+            return defineClass(name, bytes, 0, bytes.length);
+          }
+        };
+    int run = 0;
+    for (Method method : loader.loadClass(className).getMethods()) {
+      if (Modifier.isStatic(method.getModifiers()) && method.getName().startsWith("test")) {
+        try {
+          method.invoke(null);
+        } catch (InvocationTargetException e) {
+          throw new AssertionError(method.getName() + " failed", e.getCause());
+        }
+        run++;
+      }
+    }
+    if (run == 0) {
+      throw new AssertionError("No test methods in " + className);
+    }
+  }
 }
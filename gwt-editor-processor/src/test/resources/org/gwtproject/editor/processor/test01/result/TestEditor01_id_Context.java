@@ -9,13 +9,18 @@ import org.gwtproject.editor.client.impl.AbstractEditorContext;
 import org.gwtproject.editor.processor.common.EditorBean;
 
 public class TestEditor01_id_Context extends AbstractEditorContext<String> {
-  private final EditorBean parent;
+  private EditorBean parent;
   
   public TestEditor01_id_Context(EditorBean parent, Editor<String> editor, String path) {
     super(editor, path);
     this.parent = parent;
   }
   
+  public void rebind(EditorBean parent, String path) {
+    this.parent = parent;
+    rebind(path);
+  }
+  
   @Override
   public boolean canSetInModel() {
     return parent != null && true && true;
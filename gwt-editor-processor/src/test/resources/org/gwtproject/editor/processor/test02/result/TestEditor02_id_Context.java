@@ -9,7 +9,7 @@ import org.gwtproject.editor.client.impl.AbstractEditorContext;
 import org.gwtproject.editor.processor.common.EditorBeanWithInterface;
 
 public class TestEditor02_id_Context extends AbstractEditorContext<String> {
-  private final EditorBeanWithInterface parent;
+  private EditorBeanWithInterface parent;
   
   public TestEditor02_id_Context(EditorBeanWithInterface parent, Editor<String> editor,
                                  String path) {
@@ -17,6 +17,11 @@ public class TestEditor02_id_Context extends AbstractEditorContext<String> {
     this.parent = parent;
   }
   
+  public void rebind(EditorBeanWithInterface parent, String path) {
+    this.parent = parent;
+    rebind(path);
+  }
+  
   @Override
   public boolean canSetInModel() {
     return parent != null && true && true;
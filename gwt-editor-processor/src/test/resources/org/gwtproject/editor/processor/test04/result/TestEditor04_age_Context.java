@@ -10,13 +10,18 @@ import org.gwtproject.editor.client.impl.AbstractEditorContext;
 import org.gwtproject.editor.processor.common.UserDto;
 
 public class TestEditor04_age_Context extends AbstractEditorContext<Integer> {
-  private final UserDto parent;
+  private UserDto parent;
   
   public TestEditor04_age_Context(UserDto parent, Editor<Integer> editor, String path) {
     super(editor, path);
     this.parent = parent;
   }
   
+  public void rebind(UserDto parent, String path) {
+    this.parent = parent;
+    rebind(path);
+  }
+  
   @Override
   public boolean canSetInModel() {
     return parent != null && true && true;
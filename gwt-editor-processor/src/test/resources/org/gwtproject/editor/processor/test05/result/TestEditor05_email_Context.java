@@ -9,13 +9,18 @@ import org.gwtproject.editor.client.impl.AbstractEditorContext;
 import org.gwtproject.editor.processor.common.Model01Dto;
 
 public class TestEditor05_email_Context extends AbstractEditorContext<String> {
-  private final Model01Dto parent;
+  private Model01Dto parent;
   
   public TestEditor05_email_Context(Model01Dto parent, Editor<String> editor, String path) {
     super(editor, path);
     this.parent = parent;
   }
   
+  public void rebind(Model01Dto parent, String path) {
+    this.parent = parent;
+    rebind(path);
+  }
+  
   @Override
   public boolean canSetInModel() {
     return parent != null && true && true;
@@ -10,13 +10,18 @@ import org.gwtproject.editor.client.impl.AbstractEditorContext;
 import org.gwtproject.editor.processor.common.Model01Dto;
 
 public class TestEditor05_id_Context extends AbstractEditorContext<Long> {
-  private final Model01Dto parent;
+  private Model01Dto parent;
   
   public TestEditor05_id_Context(Model01Dto parent, Editor<Long> editor, String path) {
     super(editor, path);
     this.parent = parent;
   }
   
+  public void rebind(Model01Dto parent, String path) {
+    this.parent = parent;
+    rebind(path);
+  }
+  
   @Override
   public boolean canSetInModel() {
     return parent != null && true && true;
@@ -9,13 +9,18 @@ import org.gwtproject.editor.client.impl.AbstractEditorContext;
 import org.gwtproject.editor.processor.common.BadModel01Dto;
 
 public class TestEditor06_email_Context extends AbstractEditorContext<String> {
-  private final BadModel01Dto parent;
+  private BadModel01Dto parent;
   
   public TestEditor06_email_Context(BadModel01Dto parent, Editor<String> editor, String path) {
     super(editor, path);
     this.parent = parent;
   }
   
+  public void rebind(BadModel01Dto parent, String path) {
+    this.parent = parent;
+    rebind(path);
+  }
+  
   @Override
   public boolean canSetInModel() {
     return parent != null && false && true;
@@ -11,6 +11,14 @@ public class TestEditor07_SimpleBeanEditorDelegate extends SimpleBeanEditorDeleg
 
   private TestEditor07 editor;
   private Model01Generic02Dto<String> object;
+  private String idPath;
+  private String namePath;
+  private String phonePath;
+  private String emailPath;
+  private TestEditor07_id_Context idContext;
+  private TestEditor07_name_Context nameContext;
+  private TestEditor07_phone_Context phoneContext;
+  private TestEditor07_email_Context emailContext;
 
   @Override
   protected TestEditor07 getEditor() {
@@ -32,6 +40,14 @@ public class TestEditor07_SimpleBeanEditorDelegate extends SimpleBeanEditorDeleg
     this.object = (Model01Generic02Dto<String>) object;
   }
 
+  @Override
+  protected void updatePaths() {
+    idPath = appendPath("id");
+    namePath = appendPath("name");
+    phonePath = appendPath("phone");
+    emailPath = appendPath("email");
+  }
+
   @Override
   protected void initializeSubDelegates() {
   }
@@ -39,20 +55,56 @@ public class TestEditor07_SimpleBeanEditorDelegate extends SimpleBeanEditorDeleg
   @Override
   public void accept(EditorVisitor visitor) {
     {
-      TestEditor07_id_Context ctx = new TestEditor07_id_Context(getObject(), editor.id, appendPath("id"));
+      TestEditor07_id_Context ctx = idContext;
+      if (canReuseContext(ctx, editor.id)) {
+        ctx.rebind(getObject(), idPath);
+      } else {
+        ctx = idContext = new TestEditor07_id_Context(getObject(), editor.id, idPath);
+      }
       ctx.traverse(visitor, null);
+      if (ctx.isHalted()) {
+        haltTraversal();
+        return;
+      }
     }
     {
-      TestEditor07_name_Context ctx = new TestEditor07_name_Context(getObject(), editor.name, appendPath("name"));
+      TestEditor07_name_Context ctx = nameContext;
+      if (canReuseContext(ctx, editor.name)) {
+        ctx.rebind(getObject(), namePath);
+      } else {
+        ctx = nameContext = new TestEditor07_name_Context(getObject(), editor.name, namePath);
+      }
       ctx.traverse(visitor, null);
+      if (ctx.isHalted()) {
+        haltTraversal();
+        return;
+      }
     }
     {
-      TestEditor07_phone_Context ctx = new TestEditor07_phone_Context(getObject(), editor.phone, appendPath("phone"));
+      TestEditor07_phone_Context ctx = phoneContext;
+      if (canReuseContext(ctx, editor.phone)) {
+        ctx.rebind(getObject(), phonePath);
+      } else {
+        ctx = phoneContext = new TestEditor07_phone_Context(getObject(), editor.phone, phonePath);
+      }
       ctx.traverse(visitor, null);
+      if (ctx.isHalted()) {
+        haltTraversal();
+        return;
+      }
     }
     {
-      TestEditor07_email_Context ctx = new TestEditor07_email_Context(getObject(), editor.email, appendPath("email"));
+      TestEditor07_email_Context ctx = emailContext;
+      if (canReuseContext(ctx, editor.email)) {
+        ctx.rebind(getObject(), emailPath);
+      } else {
+        ctx = emailContext = new TestEditor07_email_Context(getObject(), editor.email, emailPath);
+      }
       ctx.traverse(visitor, null);
+      if (ctx.isHalted()) {
+        haltTraversal();
+        return;
+      }
     }
   }
 }
@@ -9,7 +9,7 @@ import org.gwtproject.editor.client.impl.AbstractEditorContext;
 import org.gwtproject.editor.processor.common.Model01Generic02Dto;
 
 public class TestEditor07_email_Context extends AbstractEditorContext<String> {
-  private final Model01Generic02Dto<String> parent;
+  private Model01Generic02Dto<String> parent;
   
   public TestEditor07_email_Context(Model01Generic02Dto<String> parent, Editor<String> editor,
                                     String path) {
@@ -17,6 +17,11 @@ public class TestEditor07_email_Context extends AbstractEditorContext<String> {
     this.parent = parent;
   }
   
+  public void rebind(Model01Generic02Dto<String> parent, String path) {
+    this.parent = parent;
+    rebind(path);
+  }
+  
   @Override
   public boolean canSetInModel() {
     return parent != null && true && true;
@@ -10,13 +10,18 @@ import org.gwtproject.editor.client.impl.AbstractEditorContext;
 import org.gwtproject.editor.processor.common.Model01Generic02Dto;
 
 public class TestEditor07_id_Context extends AbstractEditorContext<Long> {
-  private final Model01Generic02Dto<String> parent;
+  private Model01Generic02Dto<String> parent;
   
   public TestEditor07_id_Context(Model01Generic02Dto<String> parent, Editor<Long> editor, String path) {
     super(editor, path);
     this.parent = parent;
   }
   
+  public void rebind(Model01Generic02Dto<String> parent, String path) {
+    this.parent = parent;
+    rebind(path);
+  }
+  
   @Override()
   public boolean canSetInModel() {
     return parent != null && true && true;
@@ -1,6 +1,7 @@
 package org.gwtproject.editor.processor.test08;
 import java.lang.Object;
 import java.lang.Override;
+import java.lang.String;
 import org.gwtproject.editor.client.Editor;
 import org.gwtproject.editor.client.EditorVisitor;
 import org.gwtproject.editor.client.impl.SimpleBeanEditorDelegate;
@@ -14,6 +15,14 @@ public class TestEditor08_SimpleBeanEditorDelegate extends SimpleBeanEditorDeleg
   private SimpleBeanEditorDelegate nameDelegate;
   private SimpleBeanEditorDelegate phoneDelegate;
   private SimpleBeanEditorDelegate emailDelegate;
+  private String idPath;
+  private String namePath;
+  private String phonePath;
+  private String emailPath;
+  private TestEditor08_id_Context idContext;
+  private TestEditor08_name_Context nameContext;
+  private TestEditor08_phone_Context phoneContext;
+  private TestEditor08_email_Context emailContext;
   @Override
   protected TestEditor08 getEditor() {
     return editor;
@@ -30,46 +39,102 @@ public class TestEditor08_SimpleBeanEditorDelegate extends SimpleBeanEditorDeleg
   protected void setObject(Object object) {
     this.object = (Model01Dto) object;
   }
+  @Override
+  protected void updatePaths() {
+    idPath = appendPath("id");
+    namePath = appendPath("name");
+    phonePath = appendPath("phone");
+    emailPath = appendPath("email");
+    if (idDelegate != null) {
+      setSubDelegatePath(idDelegate, idPath);
+    }
+    if (nameDelegate != null) {
+      setSubDelegatePath(nameDelegate, namePath);
+    }
+    if (phoneDelegate != null) {
+      setSubDelegatePath(phoneDelegate, phonePath);
+    }
+    if (emailDelegate != null) {
+      setSubDelegatePath(emailDelegate, emailPath);
+    }
+  }
+
   @Override
   protected void initializeSubDelegates() {
     if (editor.id != null) {
       idDelegate = new FakeLeafValueEditorWithHasEditorDelegate_Long_SimpleBeanEditorDelegate();
-      addSubDelegate(idDelegate, appendPath("id"), editor.id);
+      addSubDelegate(idDelegate, idPath, editor.id);
     }
     if (editor.name != null) {
       nameDelegate = new FakeLeafValueEditorWithHasEditorDelegate_String_SimpleBeanEditorDelegate();
-      addSubDelegate(nameDelegate, appendPath("name"), editor.name);
+      addSubDelegate(nameDelegate, namePath, editor.name);
     }
     if (editor.phone != null) {
       phoneDelegate = new FakeLeafValueEditorWithHasEditorDelegate_String_SimpleBeanEditorDelegate();
-      addSubDelegate(phoneDelegate, appendPath("phone"), editor.phone);
+      addSubDelegate(phoneDelegate, phonePath, editor.phone);
     }
     if (editor.email != null) {
       emailDelegate = new FakeLeafValueEditorWithHasEditorDelegate_String_SimpleBeanEditorDelegate();
-      addSubDelegate(emailDelegate, appendPath("email"), editor.email);
+      addSubDelegate(emailDelegate, emailPath, editor.email);
     }
   }
   @Override
   public void accept(EditorVisitor visitor) {
     if (idDelegate != null) {
-      TestEditor08_id_Context ctx = new TestEditor08_id_Context(getObject(), editor.id, appendPath("id"));
+      TestEditor08_id_Context ctx = idContext;
+      if (canReuseContext(ctx, editor.id)) {
+        ctx.rebind(getObject(), idPath);
+      } else {
+        ctx = idContext = new TestEditor08_id_Context(getObject(), editor.id, idPath);
+      }
       ctx.setEditorDelegate(idDelegate);
       ctx.traverse(visitor, idDelegate);
+      if (ctx.isHalted()) {
+        haltTraversal();
+        return;
+      }
     }
     if (nameDelegate != null) {
-      TestEditor08_name_Context ctx = new TestEditor08_name_Context(getObject(), editor.name, appendPath("name"));
+      TestEditor08_name_Context ctx = nameContext;
+      if (canReuseContext(ctx, editor.name)) {
+        ctx.rebind(getObject(), namePath);
+      } else {
+        ctx = nameContext = new TestEditor08_name_Context(getObject(), editor.name, namePath);
+      }
       ctx.setEditorDelegate(nameDelegate);
       ctx.traverse(visitor, nameDelegate);
+      if (ctx.isHalted()) {
+        haltTraversal();
+        return;
+      }
     }
     if (phoneDelegate != null) {
-      TestEditor08_phone_Context ctx = new TestEditor08_phone_Context(getObject(), editor.phone, appendPath("phone"));
+      TestEditor08_phone_Context ctx = phoneContext;
+      if (canReuseContext(ctx, editor.phone)) {
+        ctx.rebind(getObject(), phonePath);
+      } else {
+        ctx = phoneContext = new TestEditor08_phone_Context(getObject(), editor.phone, phonePath);
+      }
       ctx.setEditorDelegate(phoneDelegate);
       ctx.traverse(visitor, phoneDelegate);
+      if (ctx.isHalted()) {
+        haltTraversal();
+        return;
+      }
     }
     if (emailDelegate != null) {
-      TestEditor08_email_Context ctx = new TestEditor08_email_Context(getObject(), editor.email, appendPath("email"));
+      TestEditor08_email_Context ctx = emailContext;
+      if (canReuseContext(ctx, editor.email)) {
+        ctx.rebind(getObject(), emailPath);
+      } else {
+        ctx = emailContext = new TestEditor08_email_Context(getObject(), editor.email, emailPath);
+      }
       ctx.setEditorDelegate(emailDelegate);
       ctx.traverse(visitor, emailDelegate);
+      if (ctx.isHalted()) {
+        haltTraversal();
+        return;
+      }
     }
   }
 }
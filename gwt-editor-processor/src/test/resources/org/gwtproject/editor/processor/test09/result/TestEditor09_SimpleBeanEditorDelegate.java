@@ -0,0 +1,213 @@
+package org.gwtproject.editor.processor.test09;
+
+import java.lang.Object;
+import java.lang.Override;
+import java.lang.String;
+import java.util.Objects;
+import org.gwtproject.editor.client.Editor;
+import org.gwtproject.editor.client.EditorContext;
+import org.gwtproject.editor.client.EditorVisitor;
+import org.gwtproject.editor.client.impl.SimpleBeanEditorDelegate;
+import org.gwtproject.editor.processor.common.Model01Generic02Dto;
+
+public class TestEditor09_SimpleBeanEditorDelegate extends SimpleBeanEditorDelegate {
+  private TestEditor09 editor;
+
+  private Model01Generic02Dto<String> object;
+
+  private SimpleBeanEditorDelegate phoneDelegate;
+
+  private String idPath;
+
+  private String namePath;
+
+  private String phonePath;
+
+  private String emailPath;
+
+  private TestEditor09_id_Context idContext;
+
+  private TestEditor09_name_Context nameContext;
+
+  private TestEditor09_phone_Context phoneContext;
+
+  private TestEditor09_email_Context emailContext;
+
+  private Object idValue;
+
+  private Object nameValue;
+
+  private Object emailValue;
+
+  @Override
+  protected TestEditor09 getEditor() {
+    return editor;
+  }
+
+  @Override
+  protected void setEditor(Editor editor) {
+    this.editor = (TestEditor09) editor;
+  }
+
+  @Override
+  public Model01Generic02Dto<String> getObject() {
+    return object;
+  }
+
+  @Override
+  protected void setObject(Object object) {
+    this.object = (Model01Generic02Dto<String>) object;
+  }
+
+  @Override
+  protected void updatePaths() {
+    idPath = appendPath("id");
+    namePath = appendPath("name");
+    phonePath = appendPath("phone");
+    emailPath = appendPath("email");
+    if (phoneDelegate != null) {
+      setSubDelegatePath(phoneDelegate, phonePath);
+    }
+  }
+
+  @Override
+  protected void initializeSubDelegates() {
+    if (editor.phone != null) {
+      phoneDelegate = new TestEditor09_1ErrorsEditor_SimpleBeanEditorDelegate();
+      addSubDelegate(phoneDelegate, phonePath, editor.phone);
+    }
+  }
+
+  @Override
+  public void accept(EditorVisitor visitor) {
+    {
+      TestEditor09_id_Context ctx = idContext;
+      if (canReuseContext(ctx, editor.id)) {
+        ctx.rebind(getObject(), idPath);
+      } else {
+        ctx = idContext = new TestEditor09_id_Context(getObject(), editor.id, idPath);
+      }
+      ctx.traverse(visitor, null);
+      if (ctx.isHalted()) {
+        haltTraversal();
+        return;
+      }
+    }
+    {
+      TestEditor09_name_Context ctx = nameContext;
+      if (canReuseContext(ctx, editor.name)) {
+        ctx.rebind(getObject(), namePath);
+      } else {
+        ctx = nameContext = new TestEditor09_name_Context(getObject(), editor.name, namePath);
+      }
+      ctx.traverse(visitor, null);
+      if (ctx.isHalted()) {
+        haltTraversal();
+        return;
+      }
+    }
+    if (phoneDelegate != null) {
+      TestEditor09_phone_Context ctx = phoneContext;
+      if (canReuseContext(ctx, editor.phone)) {
+        ctx.rebind(getObject(), phonePath);
+      } else {
+        ctx = phoneContext = new TestEditor09_phone_Context(getObject(), editor.phone, phonePath);
+      }
+      ctx.setEditorDelegate(phoneDelegate);
+      ctx.traverse(visitor, phoneDelegate);
+      if (ctx.isHalted()) {
+        haltTraversal();
+        return;
+      }
+    }
+    {
+      TestEditor09_email_Context ctx = emailContext;
+      if (canReuseContext(ctx, editor.email)) {
+        ctx.rebind(getObject(), emailPath);
+      } else {
+        ctx = emailContext = new TestEditor09_email_Context(getObject(), editor.email, emailPath);
+      }
+      ctx.traverse(visitor, null);
+      if (ctx.isHalted()) {
+        haltTraversal();
+        return;
+      }
+    }
+  }
+
+  @Override
+  protected boolean hasLeafSnapshots() {
+    return true;
+  }
+
+  @Override
+  protected void snapshotLeafValues() {
+    idValue = snapshotLeaf(editor.id);
+    nameValue = snapshotLeaf(editor.name);
+    if (phoneDelegate != null) {
+      snapshotSubDelegate(phoneDelegate);
+    }
+    emailValue = snapshotLeaf(editor.email);
+  }
+
+  @Override
+  protected void snapshotLeafValue(EditorContext ctx) {
+    if (isContextOf(ctx, editor.id)) {
+      idValue = snapshotLeaf(editor.id);
+      return;
+    }
+    if (isContextOf(ctx, editor.name)) {
+      nameValue = snapshotLeaf(editor.name);
+      return;
+    }
+    if (isContextOf(ctx, editor.email)) {
+      emailValue = snapshotLeaf(editor.email);
+      return;
+    }
+  }
+
+  @Override
+  protected boolean isLeafValueChanged(EditorContext ctx) {
+    if (isContextOf(ctx, editor.id)) {
+      return !Objects.equals(idValue, leafValueOf(editor.id));
+    }
+    if (isContextOf(ctx, editor.name)) {
+      return !Objects.equals(nameValue, leafValueOf(editor.name));
+    }
+    if (isContextOf(ctx, editor.email)) {
+      return !Objects.equals(emailValue, leafValueOf(editor.email));
+    }
+    return super.isLeafValueChanged(ctx);
+  }
+
+  @Override
+  protected Object getLeafSnapshot(EditorContext ctx) {
+    if (isContextOf(ctx, editor.id)) {
+      return idValue;
+    }
+    if (isContextOf(ctx, editor.name)) {
+      return nameValue;
+    }
+    if (isContextOf(ctx, editor.email)) {
+      return emailValue;
+    }
+    return super.getLeafSnapshot(ctx);
+  }
+
+  @Override
+  protected boolean haveLeafValuesChanged() {
+    if (!Objects.equals(idValue, readLeaf(editor.id))) {
+      return true;
+    }
+    if (!Objects.equals(nameValue, readLeaf(editor.name))) {
+      return true;
+    }
+    if (phoneDelegate != null && hasSubDelegateChanges(phoneDelegate)) {
+      return true;
+    }
+    if (!Objects.equals(emailValue, readLeaf(editor.email))) {
+      return true;
+    }
+    return false;
+  }
+}
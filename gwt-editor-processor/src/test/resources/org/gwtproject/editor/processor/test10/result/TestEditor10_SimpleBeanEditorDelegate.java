@@ -0,0 +1,175 @@
+package org.gwtproject.editor.processor.test10;
+
+import java.lang.Long;
+import java.lang.Object;
+import java.lang.Override;
+import java.lang.String;
+import org.gwtproject.editor.client.Editor;
+import org.gwtproject.editor.client.EditorVisitor;
+import org.gwtproject.editor.client.LeafValueEditor;
+import org.gwtproject.editor.client.impl.SimpleBeanEditorDelegate;
+import org.gwtproject.editor.processor.common.Model01Generic02Dto;
+
+public class TestEditor10_SimpleBeanEditorDelegate extends SimpleBeanEditorDelegate {
+  private TestEditor10 editor;
+
+  private Model01Generic02Dto<String> object;
+
+  private SimpleBeanEditorDelegate phoneDelegate;
+
+  private String idPath;
+
+  private String namePath;
+
+  private String phonePath;
+
+  private String emailPath;
+
+  private TestEditor10_id_Context idContext;
+
+  private TestEditor10_name_Context nameContext;
+
+  private TestEditor10_phone_Context phoneContext;
+
+  private TestEditor10_email_Context emailContext;
+
+  @Override
+  protected TestEditor10 getEditor() {
+    return editor;
+  }
+
+  @Override
+  protected void setEditor(Editor editor) {
+    this.editor = (TestEditor10) editor;
+  }
+
+  @Override
+  public Model01Generic02Dto<String> getObject() {
+    return object;
+  }
+
+  @Override
+  protected void setObject(Object object) {
+    this.object = (Model01Generic02Dto<String>) object;
+  }
+
+  @Override
+  protected void updatePaths() {
+    idPath = appendPath("id");
+    namePath = appendPath("name");
+    phonePath = appendPath("phone");
+    emailPath = appendPath("email");
+    if (phoneDelegate != null) {
+      setSubDelegatePath(phoneDelegate, phonePath);
+    }
+  }
+
+  @Override
+  protected void initializeSubDelegates() {
+    if (editor.phone != null) {
+      phoneDelegate = new TestEditor10_1ErrorsEditor_SimpleBeanEditorDelegate();
+      addSubDelegate(phoneDelegate, phonePath, editor.phone);
+    }
+  }
+
+  @Override
+  public void accept(EditorVisitor visitor) {
+    {
+      TestEditor10_id_Context ctx = idContext;
+      if (canReuseContext(ctx, editor.id)) {
+        ctx.rebind(getObject(), idPath);
+      } else {
+        ctx = idContext = new TestEditor10_id_Context(getObject(), editor.id, idPath);
+      }
+      ctx.traverse(visitor, null);
+      if (ctx.isHalted()) {
+        haltTraversal();
+        return;
+      }
+    }
+    {
+      TestEditor10_name_Context ctx = nameContext;
+      if (canReuseContext(ctx, editor.name)) {
+        ctx.rebind(getObject(), namePath);
+      } else {
+        ctx = nameContext = new TestEditor10_name_Context(getObject(), editor.name, namePath);
+      }
+      ctx.traverse(visitor, null);
+      if (ctx.isHalted()) {
+        haltTraversal();
+        return;
+      }
+    }
+    if (phoneDelegate != null) {
+      TestEditor10_phone_Context ctx = phoneContext;
+      if (canReuseContext(ctx, editor.phone)) {
+        ctx.rebind(getObject(), phonePath);
+      } else {
+        ctx = phoneContext = new TestEditor10_phone_Context(getObject(), editor.phone, phonePath);
+      }
+      ctx.setEditorDelegate(phoneDelegate);
+      ctx.traverse(visitor, phoneDelegate);
+      if (ctx.isHalted()) {
+        haltTraversal();
+        return;
+      }
+    }
+    {
+      TestEditor10_email_Context ctx = emailContext;
+      if (canReuseContext(ctx, editor.email)) {
+        ctx.rebind(getObject(), emailPath);
+      } else {
+        ctx = emailContext = new TestEditor10_email_Context(getObject(), editor.email, emailPath);
+      }
+      ctx.traverse(visitor, null);
+      if (ctx.isHalted()) {
+        haltTraversal();
+        return;
+      }
+    }
+  }
+
+  @Override
+  protected boolean hasDirectAccess() {
+    return true;
+  }
+
+  @Override
+  protected void doEditDirect() {
+    if (editor.id != null) {
+      editor.id.setValue((object != null) ? object.getId() : null);
+    }
+    if (editor.name != null) {
+      editor.name.setValue((object != null) ? object.getName() : null);
+    }
+    if (phoneDelegate != null) {
+      editSubDelegate(phoneDelegate, (object != null) ? object.getPhone() : null);
+    }
+    setEditorValue(editor.email, (object != null) ? object.getEmail() : null);
+  }
+
+  @Override
+  protected void doFlushDirect() {
+    flushEditor(editor.id);
+    if (editor.id != null && shouldFlush() && object != null) {
+      object.setId((Long) editor.id.getValue());
+      countWrite();
+    }
+    flushEditor(editor.name);
+    if (editor.name != null && shouldFlush() && object != null) {
+      object.setName((String) editor.name.getValue());
+      countWrite();
+    }
+    if (phoneDelegate != null) {
+      if (flushSubDelegate(phoneDelegate) && editor.phone != null && object != null) {
+        object.setPhone((String) editor.phone.getValue());
+        countWrite();
+      }
+    }
+    flushEditor(editor.email);
+    if (editor.email instanceof LeafValueEditor && shouldFlush() && object != null) {
+      object.setEmail((String) ((LeafValueEditor<?>) editor.email).getValue());
+      countWrite();
+    }
+  }
+}
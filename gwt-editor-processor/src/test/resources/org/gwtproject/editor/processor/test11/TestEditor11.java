@@ -0,0 +1,38 @@
+package org.gwtproject.editor.processor.test11;
+
+import java.util.List;
+import org.gwtproject.editor.processor.common.Model01Generic02Dto;
+import org.gwtproject.editor.client.testing.FakeLeafValueEditor;
+import org.gwtproject.editor.client.annotation.IsDriver;
+import org.gwtproject.editor.client.Editor;
+import org.gwtproject.editor.client.EditorError;
+import org.gwtproject.editor.client.HasEditorErrors;
+import org.gwtproject.editor.client.SimpleBeanEditorDriver;
+
+public class TestEditor11 implements Editor<Model01Generic02Dto<String>> {
+  
+  private Driver driver;
+  
+  @IsDriver
+  interface Driver
+      extends SimpleBeanEditorDriver<Model01Generic02Dto<String>, TestEditor11> {
+    
+  }
+
+  static class ErrorsEditor extends FakeLeafValueEditor<String> implements HasEditorErrors<String> {
+    @Override
+    public void showErrors(List<EditorError> errors) {
+    }
+  }
+  
+  FakeLeafValueEditor<Long> id;
+  FakeLeafValueEditor<String> name;
+  ErrorsEditor phone;
+  Editor<String> email;
+  
+  public TestEditor11() {
+    driver = new TestEditor11_Driver_Impl();
+    driver.initialize(this);
+  }
+  
+}
@@ -0,0 +1,188 @@
+package org.gwtproject.editor.processor.test11;
+
+import java.lang.Long;
+import java.lang.Object;
+import java.lang.Override;
+import java.lang.String;
+import org.gwtproject.editor.client.Editor;
+import org.gwtproject.editor.client.EditorVisitor;
+import org.gwtproject.editor.client.impl.IndexedEditorContext;
+import org.gwtproject.editor.client.impl.SimpleBeanEditorDelegate;
+import org.gwtproject.editor.processor.common.Model01Generic02Dto;
+
+public class TestEditor11_SimpleBeanEditorDelegate extends SimpleBeanEditorDelegate {
+  private TestEditor11 editor;
+
+  private Model01Generic02Dto<String> object;
+
+  private SimpleBeanEditorDelegate phoneDelegate;
+
+  private String idPath;
+
+  private String namePath;
+
+  private String phonePath;
+
+  private String emailPath;
+
+  private IndexedEditorContext idContext;
+
+  private IndexedEditorContext nameContext;
+
+  private IndexedEditorContext phoneContext;
+
+  private IndexedEditorContext emailContext;
+
+  @Override
+  protected TestEditor11 getEditor() {
+    return editor;
+  }
+
+  @Override
+  protected void setEditor(Editor editor) {
+    this.editor = (TestEditor11) editor;
+  }
+
+  @Override
+  public Model01Generic02Dto<String> getObject() {
+    return object;
+  }
+
+  @Override
+  protected void setObject(Object object) {
+    this.object = (Model01Generic02Dto<String>) object;
+  }
+
+  @Override
+  protected void updatePaths() {
+    idPath = appendPath("id");
+    namePath = appendPath("name");
+    phonePath = appendPath("phone");
+    emailPath = appendPath("email");
+    if (phoneDelegate != null) {
+      setSubDelegatePath(phoneDelegate, phonePath);
+    }
+  }
+
+  @Override
+  protected void initializeSubDelegates() {
+    if (editor.phone != null) {
+      phoneDelegate = new TestEditor11_1ErrorsEditor_SimpleBeanEditorDelegate();
+      addSubDelegate(phoneDelegate, phonePath, editor.phone);
+    }
+  }
+
+  @Override
+  public void accept(EditorVisitor visitor) {
+    {
+      IndexedEditorContext ctx = idContext;
+      if (canReuseContext(ctx, editor.id)) {
+        ctx.rebind(idPath);
+      } else {
+        ctx = idContext = new IndexedEditorContext(this, 0, java.lang.Long.class, editor.id, idPath);
+      }
+      ctx.traverse(visitor, null);
+      if (ctx.isHalted()) {
+        haltTraversal();
+        return;
+      }
+    }
+    {
+      IndexedEditorContext ctx = nameContext;
+      if (canReuseContext(ctx, editor.name)) {
+        ctx.rebind(namePath);
+      } else {
+        ctx = nameContext = new IndexedEditorContext(this, 1, java.lang.String.class, editor.name, namePath);
+      }
+      ctx.traverse(visitor, null);
+      if (ctx.isHalted()) {
+        haltTraversal();
+        return;
+      }
+    }
+    if (phoneDelegate != null) {
+      IndexedEditorContext ctx = phoneContext;
+      if (canReuseContext(ctx, editor.phone)) {
+        ctx.rebind(phonePath);
+      } else {
+        ctx = phoneContext = new IndexedEditorContext(this, 2, java.lang.String.class, editor.phone, phonePath);
+      }
+      ctx.setEditorDelegate(phoneDelegate);
+      ctx.traverse(visitor, phoneDelegate);
+      if (ctx.isHalted()) {
+        haltTraversal();
+        return;
+      }
+    }
+    {
+      IndexedEditorContext ctx = emailContext;
+      if (canReuseContext(ctx, editor.email)) {
+        ctx.rebind(emailPath);
+      } else {
+        ctx = emailContext = new IndexedEditorContext(this, 3, java.lang.String.class, editor.email, emailPath);
+      }
+      ctx.traverse(visitor, null);
+      if (ctx.isHalted()) {
+        haltTraversal();
+        return;
+      }
+    }
+  }
+
+  @Override
+  protected boolean hasPropertyAccessors() {
+    return true;
+  }
+
+  @Override
+  protected Object getPropertyValue(int index) {
+    switch (index) {
+      case 0:
+        return (object != null) ? object.getId() : null;
+      case 1:
+        return (object != null) ? object.getName() : null;
+      case 2:
+        return (object != null) ? object.getPhone() : null;
+      case 3:
+        return (object != null) ? object.getEmail() : null;
+      default:
+        return super.getPropertyValue(index);
+    }
+  }
+
+  @Override
+  protected boolean canSetPropertyValue(int index) {
+    switch (index) {
+      case 0:
+        return object != null;
+      case 1:
+        return object != null;
+      case 2:
+        return object != null;
+      case 3:
+        return object != null;
+      default:
+        return false;
+    }
+  }
+
+  @Override
+  protected void setPropertyValue(int index, Object value) {
+    switch (index) {
+      case 0:
+        object.setId((Long) value);
+        return;
+      case 1:
+        object.setName((String) value);
+        return;
+      case 2:
+        object.setPhone((String) value);
+        return;
+      case 3:
+        object.setEmail((String) value);
+        return;
+      default:
+        super.setPropertyValue(index, value);
+    }
+  }
+}
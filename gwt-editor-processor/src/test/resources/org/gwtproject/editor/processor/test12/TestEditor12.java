@@ -0,0 +1,198 @@
+package org.gwtproject.editor.processor.test12;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.gwtproject.editor.client.Editor;
+import org.gwtproject.editor.client.EditorChange;
+import org.gwtproject.editor.client.EditorDriverHistogram;
+import org.gwtproject.editor.client.EditorDriverMetrics.Operation;
+import org.gwtproject.editor.client.ObservableLeafValueEditor;
+import org.gwtproject.editor.client.SimpleBeanEditorDriver;
+import org.gwtproject.editor.client.SnapshotStrategy;
+import org.gwtproject.editor.client.annotation.IsDriver;
+import org.gwtproject.editor.client.testing.FakeLeafValueEditor;
+import org.gwtproject.event.shared.HandlerRegistration;
+
+/** Runs against delegates generated with dirty checks, see DriverProcessorTest#testEditor12. */
+public class TestEditor12 implements Editor<TestEditor12.Model> {
+
+  @IsDriver
+  interface Driver extends SimpleBeanEditorDriver<Model, TestEditor12> {}
+
+  public static class Model {
+    private String city;
+    private String name;
+
+    public String getCity() {
+      return city;
+    }
+
+    public void setCity(String city) {
+      this.city = city;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+  }
+
+  public static class ObservableEditor<T> implements ObservableLeafValueEditor<T> {
+    final List<ValueChangeListener> listeners = new ArrayList<ValueChangeListener>();
+    int reads;
+    private T value;
+
+    @Override
+    public HandlerRegistration addValueChangeListener(final ValueChangeListener listener) {
+      listeners.add(listener);
+      return new HandlerRegistration() {
+        @Override
+        public void removeHandler() {
+          listeners.remove(listener);
+        }
+      };
+    }
+
+    @Override
+    public T getValue() {
+      reads++;
+      return value;
+    }
+
+    @Override
+    public void setValue(T value) {
+      this.value = value;
+      for (ValueChangeListener listener : new ArrayList<ValueChangeListener>(listeners)) {
+        listener.onValueChange(this);
+      }
+    }
+  }
+
+  public static class ObservableModelEditor implements Editor<Model> {
+    FakeLeafValueEditor<String> city = new FakeLeafValueEditor<String>();
+    ObservableEditor<String> name = new ObservableEditor<String>();
+  }
+
+  @IsDriver
+  interface ObservableModelEditorDriver
+      extends SimpleBeanEditorDriver<Model, ObservableModelEditor> {}
+
+  FakeLeafValueEditor<String> city = new FakeLeafValueEditor<String>();
+  FakeLeafValueEditor<String> name = new FakeLeafValueEditor<String>();
+
+  public static void testObservableLeaves() {
+    ObservableModelEditor editor = new ObservableModelEditor();
+    ObservableModelEditorDriver driver = new TestEditor12_ObservableModelEditorDriver_Impl();
+    driver.initialize(editor);
+    Model model = new Model();
+    model.setCity("City");
+    model.setName("Alice");
+    driver.edit(model);
+    assertEquals(1, editor.name.listeners.size());
+    assertFalse(driver.isDirty());
+
+    editor.name.setValue("blah");
+    assertTrue(driver.isDirty());
+
+    // Observable leaves are not polled by isDirty()
+    editor.name.setValue("Alice");
+    editor.name.reads = 0;
+    assertFalse(driver.isDirty());
+    assertEquals(0, editor.name.reads);
+
+    // Non-observable leaves are still checked
+    editor.city.setValue("Foo");
+    assertTrue(driver.isDirty());
+    editor.city.setValue("City");
+    assertFalse(driver.isDirty());
+
+    editor.name.setValue("Charles");
+    List<EditorChange> changes = driver.flushChanges();
+    assertEquals(1, changes.size());
+    assertEquals("Alice", changes.get(0).getOldValue());
+    assertEquals("Charles", changes.get(0).getNewValue());
+
+    // Editing again releases the listeners of the previous edit
+    driver.edit(model);
+    assertEquals(1, editor.name.listeners.size());
+    assertFalse(driver.isDirty());
+  }
+
+  public static void testMetrics() {
+    TestEditor12 editor = new TestEditor12();
+    Driver driver = new TestEditor12_Driver_Impl();
+    driver.initialize(editor);
+    EditorDriverHistogram histogram = new EditorDriverHistogram();
+    driver.setMetrics(histogram);
+    Model model = new Model();
+    model.setCity("City");
+    model.setName("Alice");
+    driver.edit(model);
+    assertEquals(2, histogram.getLeavesRead(Operation.EDIT));
+
+    // The generated comparisons read the leaves without visiting a context
+    assertFalse(driver.isDirty());
+    assertEquals(0, histogram.getContextsVisited(Operation.IS_DIRTY));
+    assertEquals(2, histogram.getLeavesRead(Operation.IS_DIRTY));
+
+    // Stops at the first change
+    editor.city.setValue("Foo");
+    assertTrue(driver.isDirty());
+    assertEquals(3, histogram.getLeavesRead(Operation.IS_DIRTY));
+  }
+
+  public static void testSnapshotStrategy() {
+    TestEditor12 editor = new TestEditor12();
+    Driver driver = new TestEditor12_Driver_Impl();
+    driver.initialize(editor);
+    Model model = new Model();
+    model.setCity("City");
+    model.setName("Alice");
+    driver.setSnapshotStrategy(String.class, SnapshotStrategy.fingerprint());
+    driver.edit(model);
+    assertFalse(driver.isDirty());
+
+    editor.city.setValue("Foo");
+    assertTrue(driver.isDirty());
+    editor.city.setValue("City");
+    assertFalse(driver.isDirty());
+
+    // Only a key was kept, so the old value comes from the model
+    editor.name.setValue("Charles");
+    model.setName("Alan");
+    List<EditorChange> changes = driver.flushChanges();
+    assertEquals(1, changes.size());
+    assertEquals("Alan", changes.get(0).getOldValue());
+    assertEquals("Charles", changes.get(0).getNewValue());
+
+    // A custom key decides which differences count
+    driver.setSnapshotStrategy(
+        String.class,
+        new SnapshotStrategy() {
+          @Override
+          public Object keyOf(Object value) {
+            return value == null ? null : ((String) value).toLowerCase();
+          }
+        });
+    driver.edit(model);
+    editor.name.setValue("ALAN");
+    assertFalse(driver.isDirty());
+    editor.name.setValue("Alice");
+    assertTrue(driver.isDirty());
+
+    // Without strategies, the values recorded by the delegates are used again
+    driver.setSnapshotStrategy(String.class, null);
+    driver.edit(model);
+    editor.name.setValue("ALAN");
+    assertTrue(driver.isDirty());
+    editor.name.setValue("Alan");
+    assertFalse(driver.isDirty());
+  }
+}
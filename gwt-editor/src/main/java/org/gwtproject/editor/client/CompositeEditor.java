@@ -75,6 +75,71 @@ public interface CompositeEditor<T, C, E extends Editor<? super C>> extends Valu
      * @return the value associated with the editor
      */
     C getValue(E subEditor);
+
+    /**
+     * Writes the pending values of an attached sub-Editor into its object, as {@link
+     * EditorDriver#flush()} would, without flushing the rest of the Editor hierarchy. The flushed
+     * object can then be retrieved with {@link #getValue}.
+     *
+     * <p>The default implementation does nothing, which is correct for chains whose sub-Editors
+     * hold their value directly.
+     *
+     * @param subEditor an Editor previously passed into {@link #attach}
+     */
+    default void flush(E subEditor) {}
+
+    /**
+     * Recomputes the path of an attached sub-Editor whose {@link CompositeEditor#getPathElement
+     * path element} has changed, such as when it has moved within a list, without initializing it
+     * again.
+     *
+     * <p>The default implementation attaches the sub-Editor again to its current value.
+     *
+     * @param subEditor an Editor previously passed into {@link #attach}
+     */
+    default void updatePath(E subEditor) {
+      attach(getValue(subEditor), subEditor);
+    }
+
+    /**
+     * Attaches a sub-Editor like {@link #attach}, and takes the values it displays as the unchanged
+     * state of the object, so that {@link EditorDriver#isDirty()} only reports the edits made from
+     * now on. This is meant for sub-Editors which are moved to another object without the user
+     * having changed anything, such as when scrolling.
+     *
+     * <p>The default implementation calls {@link #attach}.
+     *
+     * @param object the object to edit
+     * @param subEditor the Editor to populate
+     */
+    default void attachUnchanged(C object, E subEditor) {
+      attach(object, subEditor);
+    }
+
+    /**
+     * Detaches a sub-Editor like {@link #detach}, without the Editor hierarchy being reported dirty
+     * for it. Meant for sub-Editors whose {@link #isChanged changes} don't need to be kept.
+     *
+     * <p>The default implementation calls {@link #detach}.
+     *
+     * @param subEditor an Editor previously passed into {@link #attach}
+     */
+    default void detachUnchanged(E subEditor) {
+      detach(subEditor);
+    }
+
+    /**
+     * Indicates whether the values displayed by an attached sub-Editor differ from those it
+     * displayed when it was attached, or when the Editor hierarchy was last edited.
+     *
+     * <p>The default implementation returns {@code true}, which is always safe.
+     *
+     * @param subEditor an Editor previously passed into {@link #attach}
+     * @return boolean
+     */
+    default boolean isChanged(E subEditor) {
+      return true;
+    }
   }
 
   /**
@@ -46,6 +46,18 @@ public interface Editor<T> {
   @Target(value = {ElementType.FIELD, ElementType.METHOD})
   public @interface Ignore {}
 
+  /**
+   * Defers the creation of the delegates for a sub-Editor, such as one on a collapsed section or a
+   * hidden tab, until its path is passed to {@link SimpleBeanEditorDriver#activate(String...)}.
+   * Until then the driver neither populates nor flushes the sub-Editor, and changes to it do not
+   * make the driver dirty. Sub-Editors that need no delegate of their own, like plain {@link
+   * LeafValueEditor LeafValueEditors}, are always active.
+   */
+  @Documented
+  @Retention(RetentionPolicy.RUNTIME)
+  @Target(value = {ElementType.FIELD, ElementType.METHOD})
+  public @interface Lazy {}
+
   /** Maps a composite Editor's component Editors into the data-model. */
   @Documented
   @Retention(RetentionPolicy.RUNTIME)
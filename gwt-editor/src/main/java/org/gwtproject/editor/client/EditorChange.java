@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2018 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gwtproject.editor.client;
+
+/**
+ * A leaf value that differs from the one its Editor was given, as reported by {@link
+ * SimpleBeanEditorDriver#flushChanges()}.
+ */
+public interface EditorChange {
+  /**
+   * Returns the absolute path of the changed value, relative to the object that was passed into the
+   * EditorDriver.
+   *
+   * @return the absolute path as a String
+   */
+  String getAbsolutePath();
+
+  /**
+   * Returns the Editor that holds the changed value.
+   *
+   * @return the Editor instance
+   */
+  Editor<?> getEditor();
+
+  /**
+   * Returns the value that the Editor was given by {@link SimpleBeanEditorDriver#edit(Object)} or
+   * {@link SimpleBeanEditorDriver#refresh(String...)}. If a {@link SnapshotStrategy} kept a key in
+   * place of that value, this is the value currently in the model instead.
+   *
+   * @return the old value Object
+   */
+  Object getOldValue();
+
+  /**
+   * Returns the value that the Editor holds now, which a flush would write into the model.
+   *
+   * @return the new value Object
+   */
+  Object getNewValue();
+}
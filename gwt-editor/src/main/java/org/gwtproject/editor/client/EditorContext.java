@@ -119,6 +119,25 @@ public interface EditorContext<T> {
    */
   T getFromModel();
 
+  /**
+   * Stops the current traversal of the Editor hierarchy. If called from {@link
+   * EditorVisitor#visit(EditorContext)}, the sub-editors of the current editor are not visited. No
+   * further editors are visited after the current one, although the editors enclosing it still
+   * receive {@link EditorVisitor#endVisit(EditorContext)}.
+   *
+   * <p>The default implementation does nothing, for contexts which don't support halting.
+   */
+  default void halt() {}
+
+  /**
+   * Indicates whether {@link #halt()} has been called during the current traversal.
+   *
+   * @return boolean default is false
+   */
+  default boolean isHalted() {
+    return false;
+  }
+
   /**
    * Sets a new value in the data hierarchy being edited. The {@link #checkAssignment(Object)}
    * method may be used to avoid an unsafe generic cast.
@@ -0,0 +1,168 @@
+/*
+ * Copyright © 2018 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gwtproject.editor.client;
+
+/**
+ * An {@link EditorDriverMetrics} that keeps, for each operation, a histogram of the wall times and
+ * the totals of the counts. It can be shared by several drivers, but is not synchronized.
+ */
+public class EditorDriverHistogram implements EditorDriverMetrics {
+  /** The upper bounds of the buckets, in milliseconds. A last bucket holds the slower ones. */
+  private static final double[] BOUNDS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000};
+
+  private static class Stats {
+    final int[] buckets = new int[BOUNDS.length + 1];
+    int count;
+    double totalMillis;
+    double maxMillis;
+    int contextsVisited;
+    int leavesRead;
+    int leavesWritten;
+    int errors;
+  }
+
+  private final Stats[] stats = new Stats[Operation.values().length];
+
+  public EditorDriverHistogram() {
+    reset();
+  }
+
+  /**
+   * Returns the upper bounds of the buckets returned by {@link #getBucketCounts(Operation)}, in
+   * milliseconds. The last bucket has no upper bound.
+   *
+   * @return a new array
+   */
+  public double[] getBucketBounds() {
+    double[] bounds = new double[BOUNDS.length];
+    System.arraycopy(BOUNDS, 0, bounds, 0, BOUNDS.length);
+    return bounds;
+  }
+
+  /**
+   * Returns the number of operations whose wall time fell into each bucket. Bucket {@code i} holds
+   * the times above the bound {@code i - 1} and up to the bound {@code i}.
+   *
+   * @param operation the operation
+   * @return a new array, one element longer than {@link #getBucketBounds()}
+   */
+  public int[] getBucketCounts(Operation operation) {
+    int[] buckets = stats[operation.ordinal()].buckets;
+    int[] counts = new int[buckets.length];
+    System.arraycopy(buckets, 0, counts, 0, buckets.length);
+    return counts;
+  }
+
+  /**
+   * Returns the total number of EditorContexts visited by the operation.
+   *
+   * @param operation the operation
+   * @return int
+   */
+  public int getContextsVisited(Operation operation) {
+    return stats[operation.ordinal()].contextsVisited;
+  }
+
+  /**
+   * Returns the number of times the operation was recorded.
+   *
+   * @param operation the operation
+   * @return int
+   */
+  public int getCount(Operation operation) {
+    return stats[operation.ordinal()].count;
+  }
+
+  /**
+   * Returns the total number of errors reported after the operation.
+   *
+   * @param operation the operation
+   * @return int
+   */
+  public int getErrors(Operation operation) {
+    return stats[operation.ordinal()].errors;
+  }
+
+  /**
+   * Returns the total number of leaf Editors visited by the operation.
+   *
+   * @param operation the operation
+   * @return int
+   */
+  public int getLeavesRead(Operation operation) {
+    return stats[operation.ordinal()].leavesRead;
+  }
+
+  /**
+   * Returns the total number of leaf values written into the model by the operation.
+   *
+   * @param operation the operation
+   * @return int
+   */
+  public int getLeavesWritten(Operation operation) {
+    return stats[operation.ordinal()].leavesWritten;
+  }
+
+  /**
+   * Returns the longest wall time of the operation, in milliseconds.
+   *
+   * @param operation the operation
+   * @return double
+   */
+  public double getMaxMillis(Operation operation) {
+    return stats[operation.ordinal()].maxMillis;
+  }
+
+  /**
+   * Returns the total wall time of the operation, in milliseconds.
+   *
+   * @param operation the operation
+   * @return double
+   */
+  public double getTotalMillis(Operation operation) {
+    return stats[operation.ordinal()].totalMillis;
+  }
+
+  @Override
+  public void record(
+      Operation operation,
+      double elapsedMillis,
+      int contextsVisited,
+      int leavesRead,
+      int leavesWritten,
+      int errors) {
+    Stats s = stats[operation.ordinal()];
+    int bucket = 0;
+    while (bucket < BOUNDS.length && elapsedMillis > BOUNDS[bucket]) {
+      bucket++;
+    }
+    s.buckets[bucket]++;
+    s.count++;
+    s.totalMillis += elapsedMillis;
+    s.maxMillis = Math.max(s.maxMillis, elapsedMillis);
+    s.contextsVisited += contextsVisited;
+    s.leavesRead += leavesRead;
+    s.leavesWritten += leavesWritten;
+    s.errors += errors;
+  }
+
+  /** Forgets everything that was recorded. */
+  public void reset() {
+    for (int i = 0; i < stats.length; i++) {
+      stats[i] = new Stats();
+    }
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2018 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gwtproject.editor.client;
+
+/**
+ * Receives measurements of the work done by an EditorDriver, such as to report slow forms. Drivers
+ * measure nothing unless they are given an instance with {@link
+ * SimpleBeanEditorDriver#setMetrics(EditorDriverMetrics)}.
+ *
+ * @see EditorDriverHistogram
+ */
+public interface EditorDriverMetrics {
+  /** The driver operations that are measured. */
+  enum Operation {
+    /** {@link SimpleBeanEditorDriver#edit(Object)}. */
+    EDIT,
+    /**
+     * {@link SimpleBeanEditorDriver#flush()} and {@link SimpleBeanEditorDriver#flush(String...)}.
+     */
+    FLUSH,
+    /** {@link EditorDriver#isDirty()}. */
+    IS_DIRTY,
+    /** {@link EditorDriver#setConstraintViolations(Iterable)}. */
+    SET_VIOLATIONS
+  }
+
+  /**
+   * Called after an operation completed normally. The counts cover the traversals of the Editor
+   * hierarchy made by the operation, and the leaf values that the delegates generated with direct
+   * access or dirty checks read and write without one. They are zero for the work that a driver
+   * does without reading values, such as an {@link EditorDriver#isDirty()} answered from tracked
+   * changes.
+   *
+   * @param operation the operation
+   * @param elapsedMillis the wall time of the operation, in milliseconds
+   * @param contextsVisited the number of EditorContexts visited
+   * @param leavesRead the number of visited contexts of {@link LeafValueEditor LeafValueEditors},
+   *     and of leaf values read without a traversal
+   * @param leavesWritten the number of leaf values written into the model by a flush
+   * @param errors the number of errors reported by {@link EditorDriver#getErrors()} afterwards, or
+   *     zero if the operation does not collect errors
+   */
+  void record(
+      Operation operation,
+      double elapsedMillis,
+      int contextsVisited,
+      int leavesRead,
+      int leavesWritten,
+      int errors);
+}
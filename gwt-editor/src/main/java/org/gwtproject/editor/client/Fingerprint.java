@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2018 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gwtproject.editor.client;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+
+/** The key kept by {@link SnapshotStrategy#fingerprint()}. */
+final class Fingerprint {
+  static final SnapshotStrategy STRATEGY =
+      new SnapshotStrategy() {
+        @Override
+        public Object keyOf(Object value) {
+          return value == null ? null : of(value);
+        }
+      };
+
+  private final int hash;
+  private final int length;
+
+  private Fingerprint(int hash, int length) {
+    this.hash = hash;
+    this.length = length;
+  }
+
+  static Fingerprint of(Object value) {
+    if (value instanceof CharSequence) {
+      return new Fingerprint(value.hashCode(), ((CharSequence) value).length());
+    } else if (value instanceof byte[]) {
+      byte[] array = (byte[]) value;
+      return new Fingerprint(Arrays.hashCode(array), array.length);
+    } else if (value instanceof char[]) {
+      char[] array = (char[]) value;
+      return new Fingerprint(Arrays.hashCode(array), array.length);
+    } else if (value instanceof int[]) {
+      int[] array = (int[]) value;
+      return new Fingerprint(Arrays.hashCode(array), array.length);
+    } else if (value instanceof double[]) {
+      double[] array = (double[]) value;
+      return new Fingerprint(Arrays.hashCode(array), array.length);
+    } else if (value instanceof Object[]) {
+      Object[] array = (Object[]) value;
+      return new Fingerprint(Arrays.deepHashCode(array), array.length);
+    } else if (value instanceof Collection<?>) {
+      return new Fingerprint(value.hashCode(), ((Collection<?>) value).size());
+    } else if (value instanceof Map<?, ?>) {
+      return new Fingerprint(value.hashCode(), ((Map<?, ?>) value).size());
+    }
+    return new Fingerprint(value.hashCode(), -1);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (!(o instanceof Fingerprint)) {
+      return false;
+    }
+    Fingerprint other = (Fingerprint) o;
+    return hash == other.hash && length == other.length;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * hash + length;
+  }
+
+  @Override
+  public String toString() {
+    return "Fingerprint[" + hash + ", " + length + "]";
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2018 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gwtproject.editor.client;
+
+import java.util.List;
+
+/**
+ * An optional extension of {@link HasEditorErrors} for editors that would rather update the errors
+ * they display than redraw them all.
+ *
+ * <p>The EditorDriver remembers the errors last shown by each error-aware editor and does not call
+ * it again while they stay the same. Once an editor has been shown its errors, later changes are
+ * reported to an implementation of this interface through {@link #changeErrors(List, List)} instead
+ * of {@link #showErrors(List)}.
+ *
+ * @param <T> the type of object the editor displays.
+ */
+public interface HasEditorErrorChanges<T> extends HasEditorErrors<T> {
+
+  /**
+   * Called by the EditorDriver when the errors for this editor differ from the ones it was last
+   * given. Errors that are still present are not reported again and keep the consumed state the
+   * editor gave them.
+   *
+   * <p>As with {@link #showErrors(List)}, the editor may consume any of the added errors by calling
+   * {@link EditorError#setConsumed(boolean)}.
+   *
+   * @param added an unmodifiable list of EditorErrors that were not shown before
+   * @param removed an unmodifiable list of the previously shown EditorErrors that no longer apply
+   */
+  void changeErrors(List<EditorError> added, List<EditorError> removed);
+}
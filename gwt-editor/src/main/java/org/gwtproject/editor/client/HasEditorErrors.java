@@ -27,7 +27,9 @@ public interface HasEditorErrors<T> extends Editor<T> {
 
   /**
    * Called by the EditorDriver to propagate errors. May be called with a zero-length list to
-   * indicate that any existing error condition should be cleared.
+   * indicate that any existing error condition should be cleared. It is not called again until the
+   * errors differ from the ones last shown; errors that come back unchanged keep the consumed state
+   * the editor gave them.
    *
    * <p>An Editor may consume any errors reported by its sub-Editors by calling {@link
    * EditorError#setConsumed(boolean)}. Any unconsumed editors will be reported up the Editor
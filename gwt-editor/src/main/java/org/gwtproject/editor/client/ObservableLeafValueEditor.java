@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2018 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gwtproject.editor.client;
+
+import org.gwtproject.event.shared.HandlerRegistration;
+
+/**
+ * A {@link LeafValueEditor} that reports changes to its value. Drivers use these notifications to
+ * track dirtiness incrementally, so that {@code isDirty()} does not have to visit every leaf of the
+ * Editor hierarchy.
+ *
+ * <p>Implementations must notify every registered listener whenever the value returned by {@link
+ * #getValue()} may have changed, including changes caused by {@link #setValue(Object)}. Editors
+ * that cannot honor this contract should implement {@link LeafValueEditor} instead.
+ *
+ * @param <T> The type of primitive value
+ */
+public interface ObservableLeafValueEditor<T> extends LeafValueEditor<T> {
+
+  /** Receives notifications from an {@link ObservableLeafValueEditor}. */
+  interface ValueChangeListener {
+    /**
+     * Called when the value of the editor may have changed.
+     *
+     * @param editor the editor whose value changed
+     */
+    void onValueChange(ObservableLeafValueEditor<?> editor);
+  }
+
+  /**
+   * Registers a listener to be notified of value changes.
+   *
+   * @param listener the listener to notify
+   * @return a HandlerRegistration to remove the listener
+   */
+  HandlerRegistration addValueChangeListener(ValueChangeListener listener);
+}
@@ -15,6 +15,8 @@
  */
 package org.gwtproject.editor.client;
 
+import java.util.List;
+
 /**
  * Automates editing of simple bean-like objects. The {@link EditorDelegate} provided from this
  * driver has a no-op implementation of {@link EditorDelegate#subscribe()}.
@@ -40,6 +42,20 @@ package org.gwtproject.editor.client;
  * @see org.gwtproject.editor.client.testing.MockSimpleBeanEditorDriver
  */
 public interface SimpleBeanEditorDriver<T, E extends Editor<? super T>> extends EditorDriver<T> {
+  /**
+   * Activates the {@link Editor.Lazy Lazy} sub-Editors at, below or on the way to the given paths,
+   * such as {@code "address"}. If an object is being edited, the activated sub-Editors are
+   * populated from it right away, and their values become their unmodified state for {@link
+   * #isDirty()}. They stay active until {@link #initialize} is called again.
+   *
+   * <p>The default implementation does nothing, for drivers which activate every sub-Editor.
+   *
+   * @param paths the absolute paths of the Editors to activate, or none or {@code ""} for all of
+   *     them
+   * @throws IllegalStateException if {@link #initialize} has not been called
+   */
+  default void activate(String... paths) {}
+
   /**
    * Push the data in an object graph into the Editor given to {@link #initialize}.
    *
@@ -56,6 +72,112 @@ public interface SimpleBeanEditorDriver<T, E extends Editor<? super T>> extends
    */
   T flush();
 
+  /**
+   * Update the object being edited with the current state of the Editors at or below the given
+   * paths, such as {@code "address"} or {@code "people[2].name"}. Only those branches of the
+   * hierarchy are visited, and {@link #getErrors()} afterwards holds the errors found in them.
+   *
+   * <p>The default implementation flushes the whole hierarchy with {@link #flush()}.
+   *
+   * @param paths the absolute paths of the Editors to flush, or none or {@code ""} for all of them
+   * @return the object passed into {@link #edit(Object)}
+   * @throws IllegalStateException if {@link #edit(Object)} has not been called
+   */
+  default T flush(String... paths) {
+    return flush();
+  }
+
+  /**
+   * Returns the values that {@link #flush()} would write into the object being edited and that
+   * differ from the ones the Editors were given by {@link #edit(Object)} or {@link
+   * #refresh(String...)}, one entry per changed leaf Editor in the order of the hierarchy. Neither
+   * the object nor {@link #getErrors()} is modified, and ValueAwareEditors are not flushed.
+   *
+   * <p>The default implementation throws an UnsupportedOperationException, since the changes cannot
+   * be told without the values the Editors were given.
+   *
+   * @return a list of EditorChanges, empty if nothing changed
+   * @throws IllegalStateException if {@link #edit(Object)} has not been called
+   */
+  default List<EditorChange> flushChanges() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Push the current values of some properties of the object passed into {@link #edit(Object)} into
+   * the Editors at or below the given paths, such as {@code "address"} or {@code "people[2].name"}.
+   * The values shown by those Editors become their new unmodified state for {@link #isDirty()}; the
+   * rest of the hierarchy is left untouched.
+   *
+   * <p>The objects that lead to the given paths are not re-read, so a path must be refreshed from
+   * the closest property whose value was replaced.
+   *
+   * <p>The default implementation throws an UnsupportedOperationException, since the object being
+   * edited is not known to this interface; {@link #edit(Object)} it again instead.
+   *
+   * @param paths the absolute paths of the Editors to refresh, or none or {@code ""} for all of
+   *     them
+   * @throws IllegalStateException if {@link #edit(Object)} has not been called
+   */
+  default void refresh(String... paths) {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Makes {@link #flush()} and {@link #flush(String...)} write only the values of the leaf Editors
+   * that differ from the ones they were given by {@link #edit(Object)} or {@link
+   * #refresh(String...)}, or from the ones the last flush wrote. The model keeps its own value for
+   * every unchanged leaf, even if it was modified after the Editors were populated.
+   *
+   * <p>A flush that wrote every value does not remember them: until a flush writing changes has
+   * written a leaf, the leaf is compared against the model instead.
+   *
+   * <p>The default implementation does nothing, so every value is written.
+   *
+   * @param writeChangesOnly {@code true} to skip writing unchanged values
+   */
+  default void setWriteChangesOnly(boolean writeChangesOnly) {}
+
+  /**
+   * Makes the driver report the wall time and the traversal counts of {@link #edit(Object)}, the
+   * flushes, {@link #isDirty()} and {@link #setConstraintViolations(Iterable)} to {@code metrics}.
+   * Without metrics, which is the default, nothing is measured.
+   *
+   * <p>The default implementation does nothing, so nothing is measured.
+   *
+   * @param metrics the metrics to report to, or {@code null} to stop measuring
+   * @see EditorDriverHistogram
+   */
+  default void setMetrics(EditorDriverMetrics metrics) {}
+
+  /**
+   * Makes the driver keep the key computed by {@code strategy} in place of the unmodified value of
+   * each leaf Editor whose edited type is exactly {@code leafType}, starting with the next call to
+   * {@link #edit(Object)}. This bounds the memory held on to for large values, at the cost of the
+   * old values reported by {@link #flushChanges()}, which are then read from the model.
+   *
+   * <p>Delegates generated with {@code gwt.editor.generateDirtyChecks} record values in fields of
+   * their own, which cannot hold keys: while any strategy is set, the driver tracks the leaf values
+   * itself instead, as it does for other delegates.
+   *
+   * <p>The default implementation does nothing, so the values are kept.
+   *
+   * @param leafType the edited type of the leaf Editors, such as {@code String.class}
+   * @param strategy the strategy to use, or {@code null} to keep the values again
+   * @see SnapshotStrategy#fingerprint()
+   */
+  default void setSnapshotStrategy(Class<?> leafType, SnapshotStrategy strategy) {}
+
+  /**
+   * Returns the number of leaf values that the last flush did not write because they were
+   * unchanged. This is always zero unless {@link #setWriteChangesOnly(boolean)} is in effect.
+   *
+   * @return int default is zero
+   */
+  default int getSkippedWrites() {
+    return 0;
+  }
+
   /**
    * Initialize the editor driver.
    *
@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2018 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gwtproject.editor.client;
+
+/**
+ * Decides what an EditorDriver keeps as the unmodified value of a leaf Editor, to which the current
+ * value is compared by {@link EditorDriver#isDirty()}. By default the value itself is kept, which
+ * holds on to large values such as text blobs or byte arrays for as long as they are edited.
+ *
+ * <p>A strategy may instead keep a smaller key, such as a {@link #fingerprint() fingerprint} or a
+ * version number. Two values are then considered equal if their keys are equal, so a key that
+ * ignores some differences makes the driver ignore them too.
+ *
+ * @see SimpleBeanEditorDriver#setSnapshotStrategy(Class, SnapshotStrategy)
+ */
+public interface SnapshotStrategy {
+  /**
+   * Returns a strategy which keeps the hash code and the length of a value. Strings, collections,
+   * maps and arrays of objects, bytes, chars, ints or doubles are hashed by their contents.
+   * Distinct values that collide on both will not be seen as changes.
+   *
+   * @return the shared fingerprint strategy
+   */
+  static SnapshotStrategy fingerprint() {
+    return Fingerprint.STRATEGY;
+  }
+
+  /**
+   * Returns the key to keep in place of the given value. Keys are compared with {@link
+   * Object#equals(Object)}, and are neither modified nor exposed by the driver.
+   *
+   * @param value the value of the leaf Editor, which may be {@code null}
+   * @return the key, which may be {@code null}
+   */
+  Object keyOf(Object value);
+}
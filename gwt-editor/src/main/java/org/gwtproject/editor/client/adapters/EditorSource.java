@@ -23,10 +23,75 @@ import org.gwtproject.editor.client.Editor;
  * An entity capable of creating and destroying instances of Editors. This type is used by Editors
  * which operate on ordered data, such as {@link ListEditor}.
  *
+ * <p>An EditorSource may opt into pooling by passing a capacity to {@link #EditorSource(int)}: the
+ * sub-Editors that are {@link #release(Editor) released} are then {@link #reset(Editor) reset} and
+ * kept in a bounded free list, from which {@link #acquire(int)} takes them before creating new
+ * ones. This avoids rebuilding the sub-Editors of lists that are repeatedly filtered or paged.
+ *
  * @param <E> the type of Editor required
  * @see org.gwtproject.editor.client.testing.FakeEditorSource
  */
 public abstract class EditorSource<E extends Editor<?>> {
+  /** The released sub-Editors available for reuse, or {@code null} if pooling is disabled. */
+  private final List<E> pool;
+
+  private final int poolCapacity;
+
+  /** Create an EditorSource which disposes the sub-Editors as soon as they are released. */
+  public EditorSource() {
+    this(0);
+  }
+
+  /**
+   * Create an EditorSource which keeps up to {@code poolCapacity} released sub-Editors for reuse.
+   *
+   * @param poolCapacity the maximum number of pooled sub-Editors, 0 disables pooling
+   */
+  protected EditorSource(int poolCapacity) {
+    assert poolCapacity >= 0;
+    this.poolCapacity = poolCapacity;
+    this.pool = poolCapacity == 0 ? null : new ArrayList<E>();
+  }
+
+  /**
+   * Returns a pooled sub-Editor moved to {@code index}, or a new one if the pool is empty.
+   *
+   * @param index the position at which the Editor should be displayed
+   * @return an {@link Editor} of type E
+   */
+  public E acquire(int index) {
+    if (pool == null || pool.isEmpty()) {
+      return create(index);
+    }
+    E toReturn = pool.remove(pool.size() - 1);
+    setIndex(toReturn, index);
+    return toReturn;
+  }
+
+  /**
+   * Returns multiple sub-Editors, taking them from the pool before calling {@link #create(int,
+   * int)} for the remaining ones.
+   *
+   * @param count the number of Editors desired
+   * @param index the position at which the Editors should be displayed
+   * @return a List of {@link Editor}s of type E
+   */
+  public List<E> acquire(int count, int index) {
+    if (pool == null || pool.isEmpty()) {
+      return create(count, index);
+    }
+    List<E> toReturn = new ArrayList<E>(count);
+    while (toReturn.size() < count && !pool.isEmpty()) {
+      E editor = pool.remove(pool.size() - 1);
+      setIndex(editor, index + toReturn.size());
+      toReturn.add(editor);
+    }
+    if (toReturn.size() < count) {
+      toReturn.addAll(create(count - toReturn.size(), index + toReturn.size()));
+    }
+    return toReturn;
+  }
+
   /**
    * Create a new Editor.
    *
@@ -56,18 +121,33 @@ public abstract class EditorSource<E extends Editor<?>> {
    * Creates a temporary sub-Editor to use for traversal.
    *
    * <p>For backwards compatibility with GWT 2.5.0 and earlier, the default implementation calls
-   * {@code create(0)} and {@link #dispose(Editor) disposes} the editor right away.
+   * {@code create(0)} and {@link #release(Editor) releases} the editor right away. If a pooled
+   * sub-Editor is available, it is returned instead and stays in the pool.
    *
    * @return an {@link Editor} of type E
    * @see ListEditor#createEditorForTraversal()
    * @see org.gwtproject.editor.client.EditorContext#traverseSyntheticCompositeEditor
    */
   public E createEditorForTraversal() {
+    if (pool != null && !pool.isEmpty()) {
+      return pool.get(pool.size() - 1);
+    }
     E toReturn = create(0);
-    dispose(toReturn);
+    release(toReturn);
     return toReturn;
   }
 
+  /** Disposes all the pooled sub-Editors. */
+  public void disposePool() {
+    if (pool == null) {
+      return;
+    }
+    for (E subEditor : pool) {
+      dispose(subEditor);
+    }
+    pool.clear();
+  }
+
   /**
    * Called when an Editor no longer requires a sub-Editor. The default implementation is a no-op.
    *
@@ -75,6 +155,41 @@ public abstract class EditorSource<E extends Editor<?>> {
    */
   public void dispose(E subEditor) {}
 
+  /**
+   * Called when an Editor no longer requires a sub-Editor. The sub-Editor is {@link #reset(Editor)
+   * reset} and pooled if pooling is enabled and the pool is not full, and {@link #dispose(Editor)
+   * disposed} otherwise.
+   *
+   * @param subEditor an {@link Editor} of type E
+   */
+  public void release(E subEditor) {
+    if (pool == null || pool.size() >= poolCapacity) {
+      dispose(subEditor);
+      return;
+    }
+    reset(subEditor);
+    pool.add(subEditor);
+  }
+
+  /**
+   * Called before a sub-Editor is pooled, for instance to hide it. Pooled sub-Editors are moved
+   * with {@link #setIndex(Editor, int)} when they are reused. The default implementation is a
+   * no-op.
+   *
+   * @param subEditor an {@link Editor} of type E
+   */
+  protected void reset(E subEditor) {}
+
+  /**
+   * Called when a sub-Editor with pending changes is scrolled out of a {@link WindowedListEditor},
+   * for instance to hide it. The sub-Editor keeps its values and is moved with {@link
+   * #setIndex(Editor, int)} when it is scrolled back into view. The default implementation is a
+   * no-op.
+   *
+   * @param subEditor an {@link Editor} of type E
+   */
+  protected void park(E subEditor) {}
+
   /**
    * Re-order a sub-Editor. The default implementation is a no-op.
    *
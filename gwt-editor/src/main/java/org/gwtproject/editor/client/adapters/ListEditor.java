@@ -32,6 +32,18 @@ import org.gwtproject.editor.client.EditorDelegate;
  */
 public class ListEditor<T, E extends Editor<? super T>> implements CompositeEditor<List<T>, T, E> {
 
+  /**
+   * Computes the key that identifies a list element across calls to {@link #setValue(List)}.
+   * Elements with {@link Object#equals(Object) equal} keys are considered to be versions of the
+   * same row.
+   *
+   * @param <T> The type of data being managed
+   * @see ListEditor#of(EditorSource, KeyMethod)
+   */
+  public interface KeyMethod<T> {
+    Object key(T element);
+  }
+
   /**
    * Create a ListEditor backed by an EditorSource.
    *
@@ -44,8 +56,29 @@ public class ListEditor<T, E extends Editor<? super T>> implements CompositeEdit
     return new ListEditor<T, E>(source);
   }
 
+  /**
+   * Create a ListEditor backed by an EditorSource which reconciles new values by key.
+   *
+   * <p>When {@link #setValue(List)} is called, sub-Editors are reused for the elements whose key
+   * was already present, and only the elements that were added, moved or replaced by another
+   * instance are re-attached to the Editor hierarchy. Elements are assumed to be replaced rather
+   * than mutated in place: an element that is the same instance at the same position is left
+   * untouched, including any changes made to its sub-Editor that have not been flushed.
+   *
+   * @param <T> The type of data being managed
+   * @param <E> The type of Editor
+   * @param source the EditorSource which will create sub-Editors
+   * @param keyMethod computes the key of a non-null list element
+   * @return a new instance of ListEditor
+   */
+  public static <T, E extends Editor<? super T>> ListEditor<T, E> of(
+      EditorSource<E> source, KeyMethod<? super T> keyMethod) {
+    return new ListEditor<T, E>(source, keyMethod);
+  }
+
   private CompositeEditor.EditorChain<T, E> chain;
   private EditorSource<E> editorSource;
+  private final KeyMethod<? super T> keyMethod;
   private ListEditorWrapper<T, E> list;
 
   /**
@@ -54,7 +87,19 @@ public class ListEditor<T, E extends Editor<? super T>> implements CompositeEdit
    * @param source the EditorSource which will create sub-Editors
    */
   protected ListEditor(EditorSource<E> source) {
+    this(source, null);
+  }
+
+  /**
+   * Create a ListEditor backed by an EditorSource.
+   *
+   * @param source the EditorSource which will create sub-Editors
+   * @param keyMethod computes the key of a list element, or {@code null} to disable keyed
+   *     reconciliation
+   */
+  protected ListEditor(EditorSource<E> source, KeyMethod<? super T> keyMethod) {
     this.editorSource = source;
+    this.keyMethod = keyMethod;
   }
 
   /**
@@ -97,6 +142,10 @@ public class ListEditor<T, E extends Editor<? super T>> implements CompositeEdit
    * backing List, but the elements themselves should not be mutated except through {@link
    * #getEditors()} to avoid data inconsistency.
    *
+   * <p>Bulk operations such as {@code addAll}, {@code removeAll}, {@code retainAll} and {@code
+   * clear} update the sub-Editors in a single pass and should be preferred over repeated
+   * single-element changes on large lists.
+   *
    * <p>Returns null if there is no backing list, and edits cannot be made.
    *
    * <p>&lt;pre&gt; ListEditor&lt;Foo, MyFooEditor&gt; listEditor = ListEditor.of(...);
@@ -111,7 +160,7 @@ public class ListEditor<T, E extends Editor<? super T>> implements CompositeEdit
   }
 
   public String getPathElement(E subEditor) {
-    return "[" + list.getEditors().indexOf(subEditor) + "]";
+    return "[" + list.indexOfEditor(subEditor) + "]";
   }
 
   public void onPropertyChange(String... paths) {}
@@ -136,7 +185,19 @@ public class ListEditor<T, E extends Editor<? super T>> implements CompositeEdit
     }
     if (list != null && list.isSameValue(value)) {
       // setting the same value as the one being edited
-      list.refresh();
+      if (keyMethod == null) {
+        list.refresh();
+      } else {
+        list.refresh(keyMethod);
+      }
+      return;
+    }
+
+    if (list != null && value != null && keyMethod != null) {
+      // Carry the sub-editors of surviving elements over to the new list
+      ListEditorWrapper<T, E> previous = list;
+      list = new ListEditorWrapper<T, E>(value, chain, editorSource);
+      list.attach(previous, keyMethod);
       return;
     }
 
@@ -17,7 +17,11 @@ package org.gwtproject.editor.client.adapters;
 
 import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import org.gwtproject.editor.client.CompositeEditor;
 import org.gwtproject.editor.client.Editor;
 
@@ -32,6 +36,11 @@ class ListEditorWrapper<T, E extends Editor<? super T>> extends AbstractList<T>
   private final CompositeEditor.EditorChain<T, E> chain;
   private final List<E> editors;
   private final EditorSource<E> editorSource;
+  /**
+   * The position of each sub-editor in {@link #editors}, for O(1) {@link #indexOfEditor(Editor)}.
+   */
+  private final Map<E, Integer> indexes = new IdentityHashMap<E, Integer>();
+
   private final List<T> workingCopy;
 
   public ListEditorWrapper(
@@ -46,14 +55,55 @@ class ListEditorWrapper<T, E extends Editor<? super T>> extends AbstractList<T>
   @Override
   public void add(int index, T element) {
     workingCopy.add(index, element);
-    E subEditor = editorSource.create(index);
+    E subEditor = editorSource.acquire(index);
     editors.add(index, subEditor);
+    indexes.put(subEditor, index);
     for (int i = index + 1, j = editors.size(); i < j; i++) {
-      editorSource.setIndex(editors.get(i), i);
+      E editor = editors.get(i);
+      editorSource.setIndex(editor, i);
+      indexes.put(editor, i);
     }
     chain.attach(element, subEditor);
   }
 
+  /**
+   * Appends all of the elements, acquiring their sub-editors with a single call to {@link
+   * EditorSource#acquire(int, int)}.
+   */
+  @Override
+  public boolean addAll(Collection<? extends T> c) {
+    return addAll(size(), c);
+  }
+
+  /**
+   * Inserts all of the elements, acquiring their sub-editors with a single call to {@link
+   * EditorSource#acquire(int, int)} and re-indexing each following sub-editor only once.
+   */
+  @Override
+  public boolean addAll(int index, Collection<? extends T> c) {
+    if (index < 0 || index > size()) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+    }
+    int count = c.size();
+    if (count == 0) {
+      return false;
+    }
+    workingCopy.addAll(index, c);
+    editors.addAll(index, editorSource.acquire(count, index));
+    for (int i = index, j = index + count; i < j; i++) {
+      indexes.put(editors.get(i), i);
+    }
+    for (int i = index + count, j = editors.size(); i < j; i++) {
+      E editor = editors.get(i);
+      editorSource.setIndex(editor, i);
+      indexes.put(editor, i);
+    }
+    for (int i = index, j = index + count; i < j; i++) {
+      chain.attach(workingCopy.get(i), editors.get(i));
+    }
+    return true;
+  }
+
   @Override
   public T get(int index) {
     return workingCopy.get(index);
@@ -63,14 +113,30 @@ class ListEditorWrapper<T, E extends Editor<? super T>> extends AbstractList<T>
   public T remove(int index) {
     T toReturn = workingCopy.remove(index);
     E subEditor = editors.remove(index);
-    editorSource.dispose(subEditor);
+    indexes.remove(subEditor);
+    // Detached first, so that the chain never sees a released sub-editor
+    chain.detach(subEditor);
+    editorSource.release(subEditor);
     for (int i = index, j = editors.size(); i < j; i++) {
-      editorSource.setIndex(editors.get(i), i);
+      E editor = editors.get(i);
+      editorSource.setIndex(editor, i);
+      indexes.put(editor, i);
     }
-    chain.detach(subEditor);
     return toReturn;
   }
 
+  /** Removes the elements contained in {@code c} in a single pass. */
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    return batchRemove(c, false);
+  }
+
+  /** Removes the elements not contained in {@code c} in a single pass. */
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    return batchRemove(c, true);
+  }
+
   @Override
   public T set(int index, T element) {
     T toReturn = workingCopy.set(index, element);
@@ -83,21 +149,105 @@ class ListEditorWrapper<T, E extends Editor<? super T>> extends AbstractList<T>
     return workingCopy.size();
   }
 
+  /**
+   * Removes a range of elements, re-indexing each following sub-editor only once. Also used by
+   * {@link #clear()}.
+   */
+  @Override
+  protected void removeRange(int fromIndex, int toIndex) {
+    if (fromIndex >= toIndex) {
+      return;
+    }
+    List<E> removed = new ArrayList<E>(editors.subList(fromIndex, toIndex));
+    cut(workingCopy, fromIndex, toIndex);
+    cut(editors, fromIndex, toIndex);
+    for (E subEditor : removed) {
+      indexes.remove(subEditor);
+      chain.detach(subEditor);
+      editorSource.release(subEditor);
+    }
+    for (int i = fromIndex, j = editors.size(); i < j; i++) {
+      E editor = editors.get(i);
+      editorSource.setIndex(editor, i);
+      indexes.put(editor, i);
+    }
+  }
+
   /**
    * Must be called after construction. This is a two-phase initialization so that ListEditor can
    * assign its list field before any sub-editors might call {@link ListEditor#getList()}
    */
   void attach() {
-    editors.addAll(editorSource.create(workingCopy.size(), 0));
+    editors.addAll(editorSource.acquire(workingCopy.size(), 0));
+    for (int i = 0, j = editors.size(); i < j; i++) {
+      indexes.put(editors.get(i), i);
+    }
     for (int i = 0, j = workingCopy.size(); i < j; i++) {
       chain.attach(workingCopy.get(i), editors.get(i));
     }
   }
 
+  /**
+   * Keyed alternative to {@link #attach()} which reuses the sub-editors of a previous wrapper for
+   * the elements whose key is still present.
+   */
+  void attach(ListEditorWrapper<T, E> previous, ListEditor.KeyMethod<? super T> keyMethod) {
+    reconcile(previous.workingCopy, previous.editors, keyMethod);
+  }
+
+  /**
+   * Removes a range of a list by shifting its tail down and truncating it from the end, which
+   * unlike {@code subList(from, to).clear()} does not remove the elements one at a time in the
+   * emulated JRE.
+   */
+  private static <X> void cut(List<X> list, int fromIndex, int toIndex) {
+    int size = list.size();
+    for (int i = toIndex; i < size; i++) {
+      list.set(fromIndex + i - toIndex, list.get(i));
+    }
+    for (int i = size - 1, j = size - (toIndex - fromIndex); i >= j; i--) {
+      list.remove(i);
+    }
+  }
+
+  /**
+   * Compacts the working copy and the sub-editors in place, keeping the elements for which {@code
+   * c.contains(element) == retain}.
+   */
+  private boolean batchRemove(Collection<?> c, boolean retain) {
+    boolean removed = false;
+    int size = workingCopy.size();
+    int kept = 0;
+    for (int i = 0; i < size; i++) {
+      T element = workingCopy.get(i);
+      E editor = editors.get(i);
+      if (c.contains(element) != retain) {
+        removed = true;
+        indexes.remove(editor);
+        chain.detach(editor);
+        editorSource.release(editor);
+        continue;
+      }
+      if (kept != i) {
+        workingCopy.set(kept, element);
+        editors.set(kept, editor);
+        editorSource.setIndex(editor, kept);
+        indexes.put(editor, kept);
+      }
+      kept++;
+    }
+    if (!removed) {
+      return false;
+    }
+    cut(workingCopy, kept, size);
+    cut(editors, kept, size);
+    return true;
+  }
+
   void detach() {
     for (int i = 0, j = editors.size(); i < j; i++) {
       chain.detach(editors.get(i));
-      editorSource.dispose(editors.get(i));
+      editorSource.release(editors.get(i));
     }
   }
 
@@ -119,6 +269,15 @@ class ListEditorWrapper<T, E extends Editor<? super T>> extends AbstractList<T>
     return editors;
   }
 
+  /**
+   * Returns the position of a sub-editor, or {@code -1} if it is not managed by this wrapper.
+   * Sub-editors are compared by identity.
+   */
+  int indexOfEditor(E subEditor) {
+    Integer index = indexes.get(subEditor);
+    return index == null ? -1 : index;
+  }
+
   /**
    * Checks whether that ListEditorWrapper can be reused for the passed list.
    *
@@ -154,4 +313,95 @@ class ListEditorWrapper<T, E extends Editor<? super T>> extends AbstractList<T>
     assert backing.size() == size();
     assert backing.equals(workingCopy);
   }
+
+  /**
+   * Keyed alternative to {@link #refresh()} which only re-attaches the elements that were added,
+   * moved or replaced in the backing list.
+   */
+  void refresh(ListEditor.KeyMethod<? super T> keyMethod) {
+    List<T> oldValues = new ArrayList<T>(workingCopy);
+    List<E> oldEditors = new ArrayList<E>(editors);
+    workingCopy.clear();
+    workingCopy.addAll(backing);
+    editors.clear();
+    reconcile(oldValues, oldEditors, keyMethod);
+    assert backing.equals(workingCopy);
+  }
+
+  /**
+   * Populates {@link #editors} for the contents of {@link #workingCopy}, reusing the sub-editor of
+   * an old element with the same key where possible. A reused sub-editor is only re-attached if its
+   * element is no longer the same instance, and only has its path updated if the element has moved;
+   * sub-editors without a matching element are detached and released.
+   */
+  private void reconcile(
+      List<T> oldValues, List<E> oldEditors, ListEditor.KeyMethod<? super T> keyMethod) {
+    // Index the old elements by key, chaining duplicate keys in list order
+    int oldSize = oldValues.size();
+    Map<Object, Integer> firstWithKey = new HashMap<Object, Integer>();
+    int[] nextWithKey = new int[oldSize];
+    for (int i = oldSize - 1; i >= 0; i--) {
+      Integer next = firstWithKey.put(keyOf(oldValues.get(i), keyMethod), i);
+      nextWithKey[i] = next == null ? -1 : next;
+    }
+
+    // Match the new elements against the old ones
+    int size = workingCopy.size();
+    boolean[] reused = new boolean[oldSize];
+    boolean[] needsAttach = new boolean[size];
+    int[] oldIndex = new int[size];
+    for (int i = 0; i < size; i++) {
+      T element = workingCopy.get(i);
+      Object key = keyOf(element, keyMethod);
+      Integer match = firstWithKey.get(key);
+      if (match == null) {
+        oldIndex[i] = -1;
+        needsAttach[i] = true;
+        editors.add(null);
+        continue;
+      }
+      if (nextWithKey[match] == -1) {
+        firstWithKey.remove(key);
+      } else {
+        firstWithKey.put(key, nextWithKey[match]);
+      }
+      reused[match] = true;
+      oldIndex[i] = match;
+      // Use of object-identity intentional
+      needsAttach[i] = oldValues.get(match) != element;
+      editors.add(oldEditors.get(match));
+    }
+
+    // Remove the rows that have disappeared
+    for (int i = 0; i < oldSize; i++) {
+      if (!reused[i]) {
+        E subEditor = oldEditors.get(i);
+        chain.detach(subEditor);
+        editorSource.release(subEditor);
+      }
+    }
+
+    // Create and re-order sub-editors
+    indexes.clear();
+    for (int i = 0; i < size; i++) {
+      if (oldIndex[i] == -1) {
+        editors.set(i, editorSource.acquire(i));
+      } else if (oldIndex[i] != i) {
+        editorSource.setIndex(editors.get(i), i);
+      }
+      indexes.put(editors.get(i), i);
+    }
+
+    for (int i = 0; i < size; i++) {
+      if (needsAttach[i]) {
+        chain.attach(workingCopy.get(i), editors.get(i));
+      } else if (oldIndex[i] != i) {
+        chain.updatePath(editors.get(i));
+      }
+    }
+  }
+
+  private static <T> Object keyOf(T element, ListEditor.KeyMethod<? super T> keyMethod) {
+    return element == null ? null : keyMethod.key(element);
+  }
 }
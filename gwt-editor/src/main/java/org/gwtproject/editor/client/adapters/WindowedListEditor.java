@@ -0,0 +1,295 @@
+/*
+ * Copyright © 2018 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gwtproject.editor.client.adapters;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.gwtproject.editor.client.CompositeEditor;
+import org.gwtproject.editor.client.Editor;
+import org.gwtproject.editor.client.EditorDelegate;
+
+/**
+ * Manages a list of objects, of which only a movable window is displayed by sub-Editors.
+ *
+ * <p>Unlike {@link ListEditor}, which creates one sub-Editor per element, the WindowedListEditor
+ * only needs about {@link #getWindowSize()} sub-Editors, which it reuses for the elements that are
+ * scrolled into view by {@link #setWindow(int, int)}. The sub-Editor at position {@code i} of
+ * {@link #getEditors()} always edits the element at {@code getWindowStart() + i}, and has the path
+ * element {@code "[" + (getWindowStart() + i) + "]"}.
+ *
+ * <p>A sub-Editor scrolled out of the window while it has pending changes is not reused: it is
+ * {@link EditorSource#park(Editor) parked}, stays attached to its element, and is shown again when
+ * the element is scrolled back into view. The pending values of all the elements thus take part in
+ * {@link org.gwtproject.editor.client.EditorDriver#isDirty()}, in the reported errors and in {@link
+ * org.gwtproject.editor.client.EditorDriver#flush()}, which is the only time they are written to
+ * the elements and the backing list. Moving the window over unchanged elements does not make the
+ * Editor hierarchy dirty, and editing the list again discards the pending values.
+ *
+ * <p>The structure of the list cannot be changed through the WindowedListEditor; set a new value
+ * instead.
+ *
+ * @param <T> The type of data being managed
+ * @param <E> The type of Editor
+ */
+public class WindowedListEditor<T, E extends Editor<? super T>>
+    implements CompositeEditor<List<T>, T, E> {
+
+  /**
+   * Create a WindowedListEditor backed by an EditorSource.
+   *
+   * @param <T> The type of data being managed
+   * @param <E> The type of Editor
+   * @param source the EditorSource which will create sub-Editors
+   * @param windowSize the maximum number of elements displayed at any time
+   * @return a new instance of WindowedListEditor
+   */
+  public static <T, E extends Editor<? super T>> WindowedListEditor<T, E> of(
+      EditorSource<E> source, int windowSize) {
+    return new WindowedListEditor<T, E>(source, windowSize);
+  }
+
+  private List<T> backing;
+  private CompositeEditor.EditorChain<T, E> chain;
+  private final EditorSource<E> editorSource;
+  /** The sub-Editors of the elements in the window. */
+  private final List<E> editors = new ArrayList<E>();
+  /** The sub-Editors with pending changes outside of the window, by element index. */
+  private final Map<Integer, E> parked = new HashMap<Integer, E>();
+  /** The element index of each attached sub-Editor, visible or parked. */
+  private final Map<E, Integer> rows = new IdentityHashMap<E, Integer>();
+
+  private int windowSize;
+  private int windowStart;
+  /** A copy of the backing list, updated when the list is flushed. */
+  private List<T> workingCopy;
+
+  /**
+   * Create a WindowedListEditor backed by an EditorSource.
+   *
+   * @param source the EditorSource which will create sub-Editors
+   * @param windowSize the maximum number of elements displayed at any time
+   */
+  protected WindowedListEditor(EditorSource<E> source, int windowSize) {
+    assert windowSize >= 0;
+    this.editorSource = source;
+    this.windowSize = windowSize;
+  }
+
+  /**
+   * Creates a temporary sub-Editor to use for traversal.
+   *
+   * @return an {@link Editor} of type E
+   */
+  public E createEditorForTraversal() {
+    return editorSource.createEditorForTraversal();
+  }
+
+  public void flush() {
+    if (workingCopy == null) {
+      return;
+    }
+    // The sub-Editors, visible or parked, have already been flushed by the driver
+    for (Map.Entry<E, Integer> entry : rows.entrySet()) {
+      workingCopy.set(entry.getValue(), chain.getValue(entry.getKey()));
+    }
+    if (backing.size() != workingCopy.size()) {
+      // The backing list was changed behind our back
+      backing.clear();
+      backing.addAll(workingCopy);
+      return;
+    }
+    for (int i = 0, j = workingCopy.size(); i < j; i++) {
+      T value = workingCopy.get(i);
+      if (backing.get(i) != value) {
+        backing.set(i, value);
+      }
+    }
+  }
+
+  /**
+   * Returns an unmodifiable, live view of the Editors attached to the elements in the window.
+   *
+   * <p>The returned list will be live until the next call to {@link #setValue(List)} or {@link
+   * #setWindow(int, int)} and shouldn't be used after that.
+   *
+   * @return a List of {@link Editor Editors} of type E
+   */
+  public List<E> getEditors() {
+    return Collections.unmodifiableList(editors);
+  }
+
+  public String getPathElement(E subEditor) {
+    return "[" + rows.get(subEditor) + "]";
+  }
+
+  /**
+   * Returns the number of elements in the list, or 0 if there is no backing list.
+   *
+   * @return the size of the list
+   */
+  public int getSize() {
+    return workingCopy == null ? 0 : workingCopy.size();
+  }
+
+  /**
+   * Returns the maximum number of elements displayed at any time.
+   *
+   * @return the size of the window
+   */
+  public int getWindowSize() {
+    return windowSize;
+  }
+
+  /**
+   * Returns the index of the first element in the window.
+   *
+   * @return the start of the window
+   */
+  public int getWindowStart() {
+    return windowStart;
+  }
+
+  public void onPropertyChange(String... paths) {}
+
+  public void setDelegate(EditorDelegate<List<T>> delegate) {}
+
+  public void setEditorChain(CompositeEditor.EditorChain<T, E> chain) {
+    this.chain = chain;
+  }
+
+  /**
+   * Sets the WindowedListEditor's backing data. The pending values of all the elements, visible or
+   * not, are discarded.
+   *
+   * <p>If a null is passed in, the WindowedListEditor will have no backing list and all its
+   * sub-Editors are released.
+   *
+   * @param value a List of data objects of type T
+   */
+  public void setValue(List<T> value) {
+    backing = value;
+    for (E subEditor : parked.values()) {
+      release(subEditor);
+    }
+    parked.clear();
+    if (value == null) {
+      workingCopy = null;
+      resize(0);
+      return;
+    }
+    workingCopy = new ArrayList<T>(value);
+    windowStart = clampStart(windowStart, windowSize);
+    resize(Math.max(0, Math.min(windowSize, workingCopy.size() - windowStart)));
+    for (int i = 0, j = editors.size(); i < j; i++) {
+      rows.put(editors.get(i), windowStart + i);
+    }
+    for (int i = 0, j = editors.size(); i < j; i++) {
+      chain.attach(workingCopy.get(windowStart + i), editors.get(i));
+    }
+  }
+
+  /**
+   * Moves the window over the list. The start is clamped so that the window stays within the list.
+   *
+   * <p>The sub-Editors of the elements leaving the window are reused for the elements entering it,
+   * unless they have pending changes, in which case they are parked until their element is scrolled
+   * back into view. Sub-Editors are acquired from the EditorSource when none can be reused, and
+   * released when the window shrinks.
+   *
+   * @param start the index of the first element to display
+   * @param size the maximum number of elements to display
+   */
+  public void setWindow(int start, int size) {
+    assert size >= 0;
+    if (workingCopy == null) {
+      windowStart = Math.max(0, start);
+      windowSize = size;
+      return;
+    }
+    start = clampStart(start, size);
+    if (start == windowStart && size == windowSize) {
+      return;
+    }
+    int end = Math.min(start + size, workingCopy.size());
+    Map<Integer, E> kept = new HashMap<Integer, E>();
+    List<E> free = new ArrayList<E>();
+    for (E subEditor : editors) {
+      int row = rows.get(subEditor);
+      if (row >= start && row < end) {
+        kept.put(row, subEditor);
+      } else if (chain.isChanged(subEditor)) {
+        parked.put(row, subEditor);
+        editorSource.park(subEditor);
+      } else {
+        free.add(subEditor);
+      }
+    }
+    editors.clear();
+    for (int row = start; row < end; row++) {
+      int slot = row - start;
+      E subEditor = kept.get(row);
+      if (subEditor != null) {
+        if (row - windowStart != slot) {
+          editorSource.setIndex(subEditor, slot);
+        }
+      } else if (parked.containsKey(row)) {
+        subEditor = parked.remove(row);
+        editorSource.setIndex(subEditor, slot);
+      } else {
+        if (free.isEmpty()) {
+          subEditor = editorSource.acquire(slot);
+        } else {
+          subEditor = free.remove(free.size() - 1);
+          editorSource.setIndex(subEditor, slot);
+        }
+        rows.put(subEditor, row);
+        chain.attachUnchanged(workingCopy.get(row), subEditor);
+      }
+      editors.add(subEditor);
+    }
+    for (E subEditor : free) {
+      rows.remove(subEditor);
+      chain.detachUnchanged(subEditor);
+      editorSource.release(subEditor);
+    }
+    windowStart = start;
+    windowSize = size;
+  }
+
+  private int clampStart(int start, int size) {
+    return Math.max(0, Math.min(start, workingCopy.size() - size));
+  }
+
+  private void release(E subEditor) {
+    rows.remove(subEditor);
+    chain.detach(subEditor);
+    editorSource.release(subEditor);
+  }
+
+  /** Acquires or releases visible sub-Editors so that there are exactly {@code count} of them. */
+  private void resize(int count) {
+    while (editors.size() > count) {
+      release(editors.remove(editors.size() - 1));
+    }
+    if (editors.size() < count) {
+      editors.addAll(editorSource.acquire(count - editors.size(), editors.size()));
+    }
+  }
+}
@@ -20,16 +20,25 @@ import org.gwtproject.editor.client.*;
 /**
  * Base implementation of EditorContext.
  *
+ * <p>Generated delegates keep their contexts between traversals and {@link #rebind(String) rebind}
+ * them before each use, so visitors must not retain an EditorContext once {@link
+ * EditorVisitor#endVisit(EditorContext)} has returned. A traversal started while another one is
+ * still visiting a context, such as from within {@link EditorVisitor#visit(EditorContext)}, is
+ * given fresh contexts instead.
+ *
  * @param <T> the type of data being edited
  */
 public abstract class AbstractEditorContext<T> implements EditorContext<T> {
-  private final String path;
+  private String path;
   private final CompositeEditor<?, ?, ?> compositeEditor;
   private AbstractEditorDelegate<T, ?> delegate;
   private final Editor<T> editor;
   private final HasEditorDelegate<T> hasEditorDelegate;
   private final HasEditorErrors<T> hasEditorErrors;
   private boolean isHalted;
+  /** Set while {@link #traverse} is visiting this context, which must not be rebound meanwhile. */
+  private boolean isTraversing;
+
   private final LeafValueEditor<T> leafValueEditor;
   private final ValueAwareEditor<T> valueAwareEditor;
 
@@ -79,7 +88,9 @@ public abstract class AbstractEditorContext<T> implements EditorContext<T> {
     Editor<?> sample = this.asCompositeEditor().createEditorForTraversal();
     AbstractEditorDelegate subDelegate = delegate.createComposedDelegate();
     delegate.addSubDelegate(subDelegate, path, sample);
-    delegate.getEditorChain().traverse(visitor, subDelegate);
+    if (delegate.getEditorChain().traverse(visitor, subDelegate)) {
+      halt();
+    }
   }
 
   public String getAbsolutePath() {
@@ -113,11 +124,28 @@ public abstract class AbstractEditorContext<T> implements EditorContext<T> {
 
   public abstract void setInModel(T data);
 
+  /**
+   * Prepares this context for another traversal, clearing any previous call to {@link #halt()}.
+   *
+   * @param path the absolute path of the editor
+   */
+  protected void rebind(String path) {
+    this.path = path;
+    isHalted = false;
+  }
+
   public void traverse(EditorVisitor visitor, AbstractEditorDelegate<?, ?> next) {
-    if (visitor.visit(this) && next != null) {
-      next.accept(visitor);
+    isTraversing = true;
+    try {
+      if (visitor.visit(this) && next != null && !isHalted) {
+        next.accept(visitor);
+        // A sub-editor halted the traversal, so this editor's siblings are skipped as well
+        isHalted = next.clearTraversalHalted();
+      }
+      visitor.endVisit(this);
+    } finally {
+      isTraversing = false;
     }
-    visitor.endVisit(this);
   }
 
   public void traverseSyntheticCompositeEditor(EditorVisitor visitor) {
@@ -126,4 +154,9 @@ public abstract class AbstractEditorContext<T> implements EditorContext<T> {
     }
     doTraverseSyntheticCompositeEditor(visitor);
   }
+
+  /** Indicates whether a traversal is currently visiting this context. */
+  boolean isTraversing() {
+    return isTraversing;
+  }
 }
@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import org.gwtproject.editor.client.*;
 import org.gwtproject.event.shared.HandlerRegistration;
 
@@ -43,6 +44,8 @@ public abstract class AbstractEditorDelegate<T, E extends Editor<T>> implements
     private final Class<R> composedElementType;
     private final Map<S, AbstractEditorDelegate<R, S>> map =
         new LinkedHashMap<S, AbstractEditorDelegate<R, S>>();
+    /** The number of components when the values were last snapshotted. */
+    private int snapshotSize = -1;
 
     /** Constructed via {@link AbstractEditorDelegate#createChain(CompositeEditor)}. */
     Chain(CompositeEditor<T, R, S> composedEditor, Class<R> composedElementType) {
@@ -52,30 +55,53 @@ public abstract class AbstractEditorDelegate<T, E extends Editor<T>> implements
 
     public void accept(EditorVisitor visitor) {
       for (AbstractEditorDelegate<R, S> delegate : map.values()) {
-        traverse(visitor, delegate);
+        if (traverse(visitor, delegate)) {
+          haltTraversal();
+          return;
+        }
       }
     }
 
     public void attach(R object, S subEditor) {
-      AbstractEditorDelegate<R, S> subDelegate = map.get(subEditor);
-
-      String subPath = path + composedEditor.getPathElement(subEditor);
+      attach(object, subEditor, true);
+    }
 
-      if (subDelegate == null) {
-        @SuppressWarnings("unchecked")
-        AbstractEditorDelegate<R, S> temp = (AbstractEditorDelegate<R, S>) createComposedDelegate();
-        subDelegate = temp;
-        map.put(subEditor, subDelegate);
-        addSubDelegate(subDelegate, subPath, subEditor);
-      } else {
-        subDelegate.path = subPath;
+    public void attachUnchanged(R object, S subEditor) {
+      AbstractEditorDelegate<R, S> subDelegate = map.get(subEditor);
+      // Replace the recorded values of the sub-editor by those of its new object
+      if (dirtTracker != null && subDelegate != null) {
+        traverse(dirtTracker.forgetter(), subDelegate);
+      }
+      attach(object, subEditor, false);
+      if (subDelegate == null && snapshotSize >= 0) {
+        snapshotSize++;
+      }
+      subDelegate = map.get(subEditor);
+      if (snapshotSize >= 0) {
+        subDelegate.setDirtTracker(dirtTracker);
+        subDelegate.snapshotValues();
+      } else if (dirtTracker != null) {
+        traverse(dirtTracker, subDelegate);
       }
-      subDelegate.setObject(ensureMutable(object));
-      traverse(createInitializerVisitor(), subDelegate);
     }
 
     public void detach(S subEditor) {
-      map.remove(subEditor);
+      invalidateDirtTracker();
+      detachAndUnindex(subEditor);
+    }
+
+    public void detachUnchanged(S subEditor) {
+      AbstractEditorDelegate<R, S> subDelegate = map.get(subEditor);
+      if (subDelegate == null) {
+        return;
+      }
+      if (dirtTracker != null) {
+        traverse(dirtTracker.forgetter(), subDelegate);
+      }
+      detachAndUnindex(subEditor);
+      if (snapshotSize > 0) {
+        snapshotSize--;
+      }
     }
 
     public R getValue(S subEditor) {
@@ -86,12 +112,204 @@ public abstract class AbstractEditorDelegate<T, E extends Editor<T>> implements
       return subDelegate.getObject();
     }
 
-    void traverse(EditorVisitor visitor, AbstractEditorDelegate<R, S> delegate) {
+    public boolean isChanged(S subEditor) {
+      AbstractEditorDelegate<R, S> subDelegate = map.get(subEditor);
+      if (subDelegate == null) {
+        return false;
+      }
+      if (snapshotSize >= 0 && subDelegate.hasChanges()) {
+        return true;
+      }
+      if (dirtTracker == null) {
+        return snapshotSize < 0;
+      }
+      DirtCollector collector = dirtTracker.comparer();
+      traverse(collector, subDelegate);
+      return collector.isDirty();
+    }
+
+    public void flush(S subEditor) {
+      AbstractEditorDelegate<R, S> subDelegate = map.get(subEditor);
+      if (subDelegate == null) {
+        return;
+      }
+      if (subDelegate.hasDirectAccess()) {
+        subDelegate.flushDirectToObject();
+      } else {
+        traverse(new Flusher(), subDelegate);
+      }
+    }
+
+    public void updatePath(S subEditor) {
+      AbstractEditorDelegate<R, S> subDelegate = map.get(subEditor);
+      if (subDelegate == null) {
+        return;
+      }
+      String pathElement = composedEditor.getPathElement(subEditor);
+      if (pathElement.equals(subDelegate.pathElement)) {
+        return;
+      }
+      // The values are unchanged, so only the violation index needs to follow the move
+      DelegateMap index = getTrackingDelegateMap();
+      if (index != null) {
+        traverse(index.unindexer(), subDelegate);
+      }
+      subDelegate.pathElement = pathElement;
+      subDelegate.setPath(path + pathElement);
+      if (index != null) {
+        traverse(index.indexer(), subDelegate);
+      }
+    }
+
+    void flushDirect() {
+      for (AbstractEditorDelegate<R, S> delegate : map.values()) {
+        delegate.counter = counter;
+        delegate.flushDirectToObject();
+      }
+    }
+
+    void updatePaths() {
+      for (AbstractEditorDelegate<R, S> delegate : map.values()) {
+        delegate.setPath(path + delegate.pathElement);
+      }
+    }
+
+    void snapshotValues() {
+      for (AbstractEditorDelegate<R, S> delegate : map.values()) {
+        delegate.setDirtTracker(dirtTracker);
+        delegate.counter = counter;
+        delegate.snapshotValues();
+      }
+      snapshotSize = map.size();
+    }
+
+    /** Components attached since the snapshot report changes of their own. */
+    boolean hasChanges() {
+      if (map.size() != snapshotSize) {
+        return true;
+      }
+      for (AbstractEditorDelegate<R, S> delegate : map.values()) {
+        delegate.counter = counter;
+        if (delegate.hasChanges()) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    /** Returns {@code true} if the visitor halted the traversal. */
+    boolean traverse(EditorVisitor visitor, AbstractEditorDelegate<R, S> delegate) {
       R object = delegate.getObject();
-      new RootEditorContext<R>(delegate, composedElementType, object).traverse(visitor, delegate);
+      RootEditorContext<R> ctx = new RootEditorContext<R>(delegate, composedElementType, object);
+      ctx.traverse(visitor, delegate);
+      return ctx.isHalted();
+    }
+
+    private void attach(R object, S subEditor, boolean invalidate) {
+      AbstractEditorDelegate<R, S> subDelegate = map.get(subEditor);
+      if (invalidate) {
+        invalidateDirtTracker();
+      }
+
+      // Unindex the sub-editor before its path or object change, and re-index it once initialized
+      DelegateMap index = getTrackingDelegateMap();
+      if (index != null) {
+        if (subDelegate != null) {
+          traverse(index.unindexer(), subDelegate);
+        }
+        index.suspend();
+      }
+      try {
+        attachAndInitialize(object, subEditor, subDelegate);
+      } finally {
+        if (index != null) {
+          index.resume();
+        }
+      }
+      if (index != null) {
+        traverse(index.indexer(), map.get(subEditor));
+      }
+    }
+
+    private void attachAndInitialize(
+        R object, S subEditor, AbstractEditorDelegate<R, S> subDelegate) {
+      String pathElement = composedEditor.getPathElement(subEditor);
+
+      if (subDelegate == null) {
+        @SuppressWarnings("unchecked")
+        AbstractEditorDelegate<R, S> temp = (AbstractEditorDelegate<R, S>) createComposedDelegate();
+        subDelegate = temp;
+        map.put(subEditor, subDelegate);
+        subDelegate.pathElement = pathElement;
+        addSubDelegate(subDelegate, path + pathElement, subEditor);
+      } else if (!pathElement.equals(subDelegate.pathElement)) {
+        // Only rebuild the paths when the sub-editor has moved
+        subDelegate.pathElement = pathElement;
+        subDelegate.setPath(path + pathElement);
+      }
+      subDelegate.setObject(ensureMutable(object));
+      EditorVisitor initializer = createInitializerVisitor();
+      if (subDelegate.hasDirectAccess() && initializer.getClass() == Initializer.class) {
+        subDelegate.editDirect(subDelegate.getObject());
+      } else {
+        traverse(initializer, subDelegate);
+      }
+    }
+
+    private void detachAndUnindex(S subEditor) {
+      AbstractEditorDelegate<R, S> subDelegate = map.remove(subEditor);
+      DelegateMap index = getTrackingDelegateMap();
+      if (index != null && subDelegate != null) {
+        traverse(index.unindexer(), subDelegate);
+      }
     }
   }
 
+  /** Stands in for the value of an editor that is not a {@link LeafValueEditor}. */
+  private static final Object NOT_A_LEAF = new Object();
+  /** Stands in for the value of an {@link ObservableLeafValueEditor}, which is never polled. */
+  private static final Object OBSERVED = new Object();
+
+  /**
+   * Passes a value to the given editor as the {@link Initializer} would, if it is a {@link
+   * ValueAwareEditor} or a {@link LeafValueEditor}.
+   *
+   * @param editor the editor, may be {@code null}
+   * @param value the value from the model
+   */
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  protected static void setEditorValue(Editor<?> editor, Object value) {
+    if (editor instanceof ValueAwareEditor<?>) {
+      ((ValueAwareEditor) editor).setValue(value);
+    } else if (editor instanceof LeafValueEditor<?>) {
+      ((LeafValueEditor) editor).setValue(value);
+    }
+  }
+
+  /**
+   * Indicates whether a context kept from a previous traversal can be rebound for the given editor,
+   * which is not the case if it belongs to another editor or a traversal is still visiting it.
+   *
+   * @param ctx the context, may be {@code null}
+   * @param editor the editor, may be {@code null}
+   * @return boolean
+   */
+  protected static boolean canReuseContext(AbstractEditorContext<?> ctx, Editor<?> editor) {
+    return ctx != null && ctx.getEditor() == editor && !ctx.isTraversing();
+  }
+
+  /**
+   * Indicates whether the given context is one of those created for the given editor by {@link
+   * #accept(EditorVisitor)}, for generated dirty checks.
+   *
+   * @param ctx the context
+   * @param editor the editor, may be {@code null}
+   * @return boolean
+   */
+  protected static boolean isContextOf(EditorContext<?> ctx, Editor<?> editor) {
+    return editor != null && ctx.getEditor() == editor;
+  }
+
   protected static String appendPath(String prefix, String path) {
     if ("".equals(prefix)) {
       return path;
@@ -100,10 +318,58 @@ public abstract class AbstractEditorDelegate<T, E extends Editor<T>> implements
     }
   }
 
+  /**
+   * Returns the value of the given editor if it is a {@link LeafValueEditor}, for comparison in
+   * generated dirty checks. The changes of an {@link ObservableLeafValueEditor} are followed by the
+   * driver's DirtTracker instead, see {@link #snapshotLeaf(Editor)}, so its value is not read.
+   *
+   * @param editor the editor, may be {@code null}
+   * @return Object
+   */
+  protected static Object leafValueOf(Editor<?> editor) {
+    if (editor instanceof ObservableLeafValueEditor<?>) {
+      return OBSERVED;
+    }
+    if (editor instanceof LeafValueEditor<?>) {
+      return ((LeafValueEditor<?>) editor).getValue();
+    }
+    return NOT_A_LEAF;
+  }
+
+  /** The violation index of the driver, if one has been built. */
+  private DelegateMap delegateMap;
+  /**
+   * The id under which {@link #delegateMap} indexes this delegate if it uses a {@link
+   * DelegateMap.IntKeyMethod}, kept here so that it is not boxed. Only set if {@link #hasIntKey}.
+   */
+  int intKey;
+
+  boolean hasIntKey;
+
   private boolean dirty;
+  private DirtTracker dirtTracker;
+  /** Set by {@link #haltTraversal()} until the enclosing context has seen it. */
+  private boolean traversalHalted;
+
   private Chain<?, ?> editorChain;
+  /**
+   * Counts the leaf values read and written by the driver operation in progress without a
+   * traversal, or {@code null}. Handed down to the sub-delegates as they are reached.
+   */
+  private TraversalCounter counter;
+  /** Created by the first recorded error and handed off to the ErrorCollector. */
   private List<EditorError> errors;
+
+  /** The value of the editor itself when snapshotted, for generated dirty checks. */
+  private Object ownValue;
+
   private String path;
+  /** The errors last shown by the editor, if it is a HasEditorErrors. */
+  private List<EditorError> shownErrors;
+  /** The path element assigned by the CompositeEditor when this delegate is part of a Chain. */
+  private String pathElement;
+  /** Set once {@link #snapshotValues()} has recorded the values below this delegate. */
+  private boolean snapshotted;
 
   public abstract void accept(EditorVisitor visitor);
 
@@ -124,21 +390,35 @@ public abstract class AbstractEditorDelegate<T, E extends Editor<T>> implements
 
   public void recordError(String message, Object value, Object userData) {
     EditorError error = new SimpleError(this, message, value, userData);
-    errors.add(error);
+    getErrors().add(error);
   }
 
   public void recordError(
       String message, Object value, Object userData, String extraPath, Editor<?> leafEditor) {
     EditorError error = new SimpleError(this, message, value, userData, extraPath, leafEditor);
-    errors.add(error);
+    getErrors().add(error);
   }
 
   public void setDirty(boolean dirty) {
     this.dirty = dirty;
+    if (dirtTracker != null) {
+      dirtTracker.onDelegateDirty(this, dirty);
+    }
   }
 
   public abstract HandlerRegistration subscribe();
 
+  /**
+   * Creates and initializes the sub-delegate of the {@link org.gwtproject.editor.client.Editor.Lazy
+   * Lazy} sub-editor with the given index, which {@link #accept(EditorVisitor)} then visits.
+   *
+   * @param index the index of the lazy sub-editor
+   * @return boolean {@code true} if it was not active yet
+   */
+  protected boolean activateLazySubDelegate(int index) {
+    return false;
+  }
+
   /**
    * Initialize a sub-delegate whenever one is added to the editor hierarchy.
    *
@@ -160,6 +440,23 @@ public abstract class AbstractEditorDelegate<T, E extends Editor<T>> implements
     return appendPath(this.path, path);
   }
 
+  /**
+   * Computes the absolute paths that depend on the path of this delegate. Called when the delegate
+   * is initialized and whenever its path changes.
+   */
+  protected void updatePaths() {}
+
+  /**
+   * Indicates whether the property with the given index can be written, for an {@link
+   * IndexedEditorContext}.
+   *
+   * @param index the index of the property
+   * @return boolean default is false
+   */
+  protected boolean canSetPropertyValue(int index) {
+    return false;
+  }
+
   protected <R, S extends Editor<R>> void createChain(Class<R> composedElementType) {
     @SuppressWarnings("unchecked")
     CompositeEditor<T, R, S> editor = (CompositeEditor<T, R, S>) getEditor();
@@ -179,33 +476,450 @@ public abstract class AbstractEditorDelegate<T, E extends Editor<T>> implements
     return new Initializer();
   }
 
+  /** Counts a leaf value written into the model by {@link #doFlushDirect()}, for the metrics. */
+  protected void countWrite() {
+    if (counter != null) {
+      counter.countWrite();
+    }
+  }
+
   protected <Q> Q ensureMutable(Q object) {
     return object;
   }
 
+  /**
+   * Does what the {@link Initializer} would do to the sub-editors of this delegate, given that
+   * {@link #hasDirectAccess()}.
+   */
+  protected void doEditDirect() {}
+
+  /**
+   * Does what the {@link Flusher} would do to the sub-editors of this delegate, given that {@link
+   * #hasDirectAccess()}.
+   */
+  protected void doFlushDirect() {}
+
+  /**
+   * Initializes a sub-delegate and its editor with a value from the model.
+   *
+   * @param subDelegate the sub delegate
+   * @param value the value from the model
+   */
+  @SuppressWarnings("unchecked")
+  protected void editSubDelegate(AbstractEditorDelegate<?, ?> subDelegate, Object value) {
+    ((AbstractEditorDelegate<Object, ?>) subDelegate).editDirect(value);
+  }
+
+  /**
+   * Flushes the given editor if it is a {@link ValueAwareEditor}.
+   *
+   * @param editor the editor, may be {@code null}
+   */
+  protected void flushEditor(Editor<?> editor) {
+    if (editor instanceof ValueAwareEditor<?> && shouldFlush()) {
+      ((ValueAwareEditor<?>) editor).flush();
+    }
+  }
+
+  /**
+   * Flushes a sub-delegate, its editor and everything below it.
+   *
+   * @param subDelegate the sub delegate
+   * @return whether the value of the sub-editor should be copied into the model
+   */
+  protected boolean flushSubDelegate(AbstractEditorDelegate<?, ?> subDelegate) {
+    subDelegate.counter = counter;
+    return subDelegate.flushDirect();
+  }
+
   protected abstract E getEditor();
 
   protected Chain<?, ?> getEditorChain() {
     return editorChain;
   }
 
+  /**
+   * Reads the property with the given index from the edited object, for an {@link
+   * IndexedEditorContext}.
+   *
+   * @param index the index of the property
+   * @return Object
+   */
+  protected Object getPropertyValue(int index) {
+    throw new IllegalStateException();
+  }
+
+  /**
+   * Returns the absolute path of the {@link org.gwtproject.editor.client.Editor.Lazy Lazy}
+   * sub-editor with the given index.
+   *
+   * @param index the index of the lazy sub-editor
+   * @return String or {@code null} if there is no such sub-editor
+   */
+  protected String getLazySubDelegatePath(int index) {
+    return null;
+  }
+
   protected List<EditorError> getErrors() {
+    if (errors == null) {
+      errors = new ArrayList<EditorError>();
+    }
     return errors;
   }
 
+  /**
+   * Returns the value last recorded by {@link #snapshotLeafValue(EditorContext)} for the leaf
+   * editor of one of the contexts created by {@link #accept(EditorVisitor)}.
+   *
+   * @param ctx the context of the leaf editor
+   * @return Object default is the value in the model
+   */
+  protected Object getLeafSnapshot(EditorContext<?> ctx) {
+    return ctx.getFromModel();
+  }
+
+  /**
+   * Called by {@link #accept(EditorVisitor)} when a sub-editor halted the traversal, before it
+   * returns without visiting the remaining sub-editors.
+   */
+  protected void haltTraversal() {
+    traversalHalted = true;
+  }
+
+  /**
+   * Indicates whether this delegate was generated with {@link #doEditDirect()} and {@link
+   * #doFlushDirect()}, which the driver then uses instead of an Initializer and a Flusher.
+   *
+   * @return boolean default is false
+   */
+  protected boolean hasDirectAccess() {
+    return false;
+  }
+
+  /**
+   * Indicates whether this delegate was generated with {@link #getPropertyValue(int)}, {@link
+   * #canSetPropertyValue(int)} and {@link #setPropertyValue(int, Object)}, without which it cannot
+   * own an {@link IndexedEditorContext}.
+   *
+   * @return boolean default is false
+   */
+  protected boolean hasPropertyAccessors() {
+    return false;
+  }
+
+  /**
+   * Indicates whether this delegate was generated with dirty checks, which record the values of its
+   * leaf editors in fields instead of relying on a {@link DirtTracker}.
+   *
+   * @return boolean default is false
+   */
+  protected boolean hasLeafSnapshots() {
+    return false;
+  }
+
+  /**
+   * Compares the leaf editors of this delegate with the values last recorded by {@link
+   * #snapshotLeafValues()}, and asks the sub-delegates to do the same. Stops at the first change.
+   *
+   * @return boolean
+   */
+  protected boolean haveLeafValuesChanged() {
+    return false;
+  }
+
+  /**
+   * Returns {@code true} if the leaf editor of one of the contexts created by {@link
+   * #accept(EditorVisitor)} holds a different value than the one last recorded by {@link
+   * #snapshotLeafValue(EditorContext)}.
+   *
+   * @param ctx the context of the leaf editor
+   * @return boolean default is true
+   */
+  protected boolean isLeafValueChanged(EditorContext<?> ctx) {
+    return true;
+  }
+
+  /**
+   * Returns {@code true} if the sub-delegate, or anything below it, has changed since it was
+   * snapshotted.
+   *
+   * @param subDelegate the sub delegate
+   * @return boolean
+   */
+  protected boolean hasSubDelegateChanges(AbstractEditorDelegate<?, ?> subDelegate) {
+    subDelegate.counter = counter;
+    return subDelegate.hasChanges();
+  }
+
   protected void initialize(String pathSoFar, E editor) {
     this.path = pathSoFar;
     setEditor(editor);
-    errors = new ArrayList<EditorError>();
+    errors = null;
+    updatePaths();
     initializeSubDelegates();
   }
 
   protected abstract void initializeSubDelegates();
 
+  /**
+   * Returns the current value of the given editor for {@link #haveLeafValuesChanged()}, which is
+   * {@link #leafValueOf(Editor)}, and counts the leaf values that are read for the metrics.
+   *
+   * @param editor the editor, may be {@code null}
+   * @return Object
+   */
+  protected Object readLeaf(Editor<?> editor) {
+    if (counter != null
+        && editor instanceof LeafValueEditor<?>
+        && !(editor instanceof ObservableLeafValueEditor<?>)) {
+      counter.countLeaf();
+    }
+    return leafValueOf(editor);
+  }
+
+  /**
+   * Indicates whether the traversal of the sub-editors currently being visited by {@link
+   * #accept(EditorVisitor)} has been halted.
+   *
+   * @return boolean
+   */
+  protected boolean isTraversalHalted() {
+    return traversalHalted;
+  }
+
   protected abstract void setEditor(E editor);
 
   protected abstract void setObject(T object);
 
+  /**
+   * Writes the property with the given index into the edited object, for an {@link
+   * IndexedEditorContext}.
+   *
+   * @param index the index of the property
+   * @param value the new value of the property
+   */
+  protected void setPropertyValue(int index, Object value) {
+    throw new IllegalStateException();
+  }
+
+  /**
+   * Moves a sub-delegate, and everything below it, to a new path.
+   *
+   * @param subDelegate the sub delegate
+   * @param path the new path of the sub delegate
+   */
+  protected void setSubDelegatePath(AbstractEditorDelegate<?, ?> subDelegate, String path) {
+    subDelegate.setPath(path);
+  }
+
+  /**
+   * Records the value of the leaf editor of one of the contexts created by {@link
+   * #accept(EditorVisitor)}, for editors which have no delegate of their own.
+   *
+   * @param ctx the context of the leaf editor
+   */
+  protected void snapshotLeafValue(EditorContext<?> ctx) {}
+
+  /**
+   * Records the current values of the leaf editors of this delegate, including those of the
+   * sub-delegates, as the baseline of {@link #haveLeafValuesChanged()}.
+   */
+  protected void snapshotLeafValues() {}
+
+  /**
+   * Returns what generated dirty checks record for the given editor, which is {@link
+   * #leafValueOf(Editor)}. An {@link ObservableLeafValueEditor} is handed to the driver's
+   * DirtTracker, which records its value and listens to its changes. Counts the leaf values that
+   * are read for the metrics.
+   *
+   * @param editor the editor, may be {@code null}
+   * @return Object
+   */
+  protected Object snapshotLeaf(Editor<?> editor) {
+    if (counter != null && editor instanceof LeafValueEditor<?>) {
+      counter.countLeaf();
+    }
+    if (editor instanceof ObservableLeafValueEditor<?> && dirtTracker != null) {
+      dirtTracker.observe((ObservableLeafValueEditor<?>) editor);
+    }
+    return leafValueOf(editor);
+  }
+
+  /**
+   * Records the current values of a sub-delegate and everything below it.
+   *
+   * @param subDelegate the sub delegate
+   */
+  protected void snapshotSubDelegate(AbstractEditorDelegate<?, ?> subDelegate) {
+    subDelegate.setDirtTracker(dirtTracker);
+    subDelegate.counter = counter;
+    subDelegate.snapshotValues();
+  }
+
+  /**
+   * Activates the lazy sub-editors of this delegate that {@code scope} reaches, or all of them if
+   * it is {@code null}, and adds their paths to {@code activated}.
+   */
+  void activateLazySubDelegates(PathScope scope, List<String> activated) {
+    String lazyPath;
+    for (int i = 0; (lazyPath = getLazySubDelegatePath(i)) != null; i++) {
+      if ((scope == null || scope.reaches(lazyPath)) && activateLazySubDelegate(i)) {
+        activated.add(lazyPath);
+      }
+    }
+  }
+
+  /** Returns the tracked {@link DelegateMap} that indexes this delegate, or {@code null}. */
+  DelegateMap getDelegateMap() {
+    return delegateMap;
+  }
+
+  /** Called by the {@link DelegateMap} that indexes this delegate. */
+  void setDelegateMap(DelegateMap delegateMap) {
+    this.delegateMap = delegateMap;
+  }
+
+  /**
+   * Replaces the edited object outside of a refresh of the Editor hierarchy, such as when a
+   * component of a {@link CompositeEditor} is flushed.
+   */
+  void replaceObject(T object) {
+    DelegateMap index = getTrackingDelegateMap();
+    if (index != null) {
+      index.rekey(this, object);
+    }
+    setObject(object);
+  }
+
+  /**
+   * Called by the {@link DirtTracker} that records this delegate's dirty state, or before the
+   * delegate is snapshotted.
+   */
+  void setDirtTracker(DirtTracker dirtTracker) {
+    this.dirtTracker = dirtTracker;
+  }
+
+  /**
+   * Called by the driver before the delegates read or write leaf values without a traversal, with
+   * the counter of its operation or {@code null}.
+   */
+  void setCounter(TraversalCounter counter) {
+    this.counter = counter;
+  }
+
+  List<EditorError> getShownErrors() {
+    return shownErrors;
+  }
+
+  void setShownErrors(List<EditorError> shownErrors) {
+    this.shownErrors = shownErrors;
+  }
+
+  /**
+   * Initializes this delegate and everything below it with the given value, as the {@link
+   * Initializer} would. Only used if {@link #hasDirectAccess()}.
+   */
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  void editDirect(T value) {
+    E editor = getEditor();
+    if (editor instanceof HasEditorDelegate<?>) {
+      ((HasEditorDelegate<T>) editor).setDelegate(this);
+    }
+    if (editor instanceof CompositeEditor<?, ?, ?>) {
+      ((CompositeEditor) editor).setEditorChain(editorChain);
+    }
+    setObject(ensureMutable(value));
+    setDirty(false);
+    setEditorValue(editor, value);
+    // A CompositeEditor attaches its sub-editors when its value is set
+    if (!(editor instanceof CompositeEditor<?, ?, ?>)) {
+      doEditDirect();
+    }
+  }
+
+  /**
+   * Flushes everything below this delegate and then its editor, as the {@link Flusher} would. Only
+   * used if {@link #hasDirectAccess()}.
+   *
+   * @return whether the value of the editor should be copied into the model
+   */
+  boolean flushDirect() {
+    if (editorChain != null) {
+      editorChain.flushDirect();
+    }
+    doFlushDirect();
+    flushEditor(getEditor());
+    return shouldFlush();
+  }
+
+  /**
+   * Flushes this delegate and makes the value of its editor, if it is a {@link LeafValueEditor},
+   * the edited object. Used for the delegates that have no enclosing delegate to copy the value
+   * into the model, which are the root delegate and the components of a Chain.
+   */
+  @SuppressWarnings("unchecked")
+  void flushDirectToObject() {
+    if (flushDirect() && getEditor() instanceof LeafValueEditor<?>) {
+      replaceObject(((LeafValueEditor<T>) getEditor()).getValue());
+      countWrite();
+    }
+  }
+
+  /**
+   * Returns the value of the editor itself when last snapshotted. Only meaningful if {@link
+   * #hasLeafSnapshots()}.
+   */
+  Object getOwnSnapshot() {
+    return ownValue;
+  }
+
+  /**
+   * Returns {@code true} if this delegate was marked dirty, or a value below it differs from the
+   * last snapshot. Only meaningful if {@link #hasLeafSnapshots()}.
+   */
+  boolean hasChanges() {
+    return dirty
+        || !snapshotted
+        || !Objects.equals(ownValue, readLeaf(getEditor()))
+        || haveLeafValuesChanged()
+        || (editorChain != null && editorChain.hasChanges());
+  }
+
+  /**
+   * Returns {@code true} if the value of the editor itself differs from the last snapshot. Only
+   * meaningful if {@link #hasLeafSnapshots()}.
+   */
+  boolean isOwnValueChanged() {
+    return !snapshotted || !Objects.equals(ownValue, leafValueOf(getEditor()));
+  }
+
+  /** Makes the current values below this delegate the baseline of {@link #hasChanges()}. */
+  void snapshotValues() {
+    ownValue = snapshotLeaf(getEditor());
+    snapshotLeafValues();
+    if (editorChain != null) {
+      editorChain.snapshotValues();
+    }
+    snapshotted = true;
+  }
+
+  /** Returns whether the last traversal of this delegate was halted, and resets the flag. */
+  boolean clearTraversalHalted() {
+    boolean toReturn = traversalHalted;
+    traversalHalted = false;
+    return toReturn;
+  }
+
+  /**
+   * Returns the errors recorded since the last call, or {@code null} if there are none, and forgets
+   * them.
+   */
+  List<EditorError> takeErrors() {
+    List<EditorError> toReturn = errors;
+    errors = null;
+    return toReturn;
+  }
+
   /**
    * Indicates whether or not calls to org.gwtproject.editor.client.ValueAwareEditor.flush are
    * expected as part of normal operation.
@@ -215,4 +929,25 @@ public abstract class AbstractEditorDelegate<T, E extends Editor<T>> implements
   protected boolean shouldFlush() {
     return true;
   }
+
+  private void setPath(String path) {
+    if (path.equals(this.path)) {
+      return;
+    }
+    this.path = path;
+    updatePaths();
+    if (editorChain != null) {
+      editorChain.updatePaths();
+    }
+  }
+
+  private DelegateMap getTrackingDelegateMap() {
+    return delegateMap != null && delegateMap.isTracking() ? delegateMap : null;
+  }
+
+  private void invalidateDirtTracker() {
+    if (dirtTracker != null) {
+      dirtTracker.invalidate();
+    }
+  }
 }
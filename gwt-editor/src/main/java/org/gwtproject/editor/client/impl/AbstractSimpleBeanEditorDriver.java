@@ -15,7 +15,9 @@
  */
 package org.gwtproject.editor.client.impl;
 
+import java.util.List;
 import org.gwtproject.editor.client.Editor;
+import org.gwtproject.editor.client.EditorChange;
 import org.gwtproject.editor.client.SimpleBeanEditorDriver;
 
 /**
@@ -27,6 +29,10 @@ import org.gwtproject.editor.client.SimpleBeanEditorDriver;
 public abstract class AbstractSimpleBeanEditorDriver<T, E extends Editor<T>>
     extends BaseEditorDriver<T, E> implements SimpleBeanEditorDriver<T, E> {
 
+  public void activate(String... paths) {
+    doActivate(paths);
+  }
+
   public void edit(T object) {
     doEdit(object);
   }
@@ -36,6 +42,19 @@ public abstract class AbstractSimpleBeanEditorDriver<T, E extends Editor<T>>
     return getObject();
   }
 
+  public T flush(String... paths) {
+    doFlush(paths);
+    return getObject();
+  }
+
+  public List<EditorChange> flushChanges() {
+    return doFlushChanges();
+  }
+
+  public void refresh(String... paths) {
+    doRefresh(paths);
+  }
+
   public void initialize(E editor) {
     doInitialize(editor);
   }
@@ -16,10 +16,12 @@
 package org.gwtproject.editor.client.impl;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import javax.validation.ConstraintViolation;
 import org.gwtproject.editor.client.*;
+import org.gwtproject.editor.client.EditorDriverMetrics.Operation;
 import org.gwtproject.editor.client.impl.DelegateMap.KeyMethod;
 
 /**
@@ -30,12 +32,37 @@ import org.gwtproject.editor.client.impl.DelegateMap.KeyMethod;
  */
 public abstract class BaseEditorDriver<T, E extends Editor<T>> {
   private AbstractEditorDelegate<T, E> delegate;
-  /** Used for {@link #isDirty()} computations. */
+  /** Maps violations to delegates, built on the first call to {@link #doSetViolations}. */
+  private DelegateMap delegateMap;
+  /**
+   * Tracks the dirty state incrementally between calls to {@link #doEdit}, or only that of the
+   * observable leaves if the delegates keep {@link #snapshots}.
+   */
+  private DirtTracker dirtTracker;
+  /** The leaf values recorded by {@link #dirtTracker}, the baseline of {@link #isDirty()}. */
   private Map<LeafValueEditor<?>, Object> leafValueMap;
+  /** Decides what {@link #leafValueMap} holds for the leaves of some types, created on demand. */
+  private Map<Class<?>, SnapshotStrategy> snapshotStrategies;
+  /**
+   * Whether the delegates record the baseline of {@link #isDirty()} themselves, which they only do
+   * if they were generated with dirty checks and no {@link SnapshotStrategy} applies.
+   */
+  private boolean snapshots;
 
   private E editor;
+  /** Receives the measurements of the operations, or {@code null} to measure nothing. */
+  private EditorDriverMetrics metrics;
+  /** Measures the operation in progress, if {@link #metrics} are being recorded. */
+  private TraversalCounter counter;
+
   private List<EditorError> errors;
   private T object;
+  /** The number of unchanged leaf values that the last flush did not write. */
+  private int skippedWrites;
+  /** Whether flushes only write the leaf values that differ from the baseline. */
+  private boolean writeChangesOnly;
+  /** Matches the violations with the edited objects, or {@code null} for the default. */
+  private KeyMethod violationKeyMethod;
 
   public abstract void accept(EditorVisitor visitor);
 
@@ -43,14 +70,71 @@ public abstract class BaseEditorDriver<T, E extends Editor<T>> {
     return errors;
   }
 
+  public int getSkippedWrites() {
+    return skippedWrites;
+  }
+
   public boolean hasErrors() {
     return !errors.isEmpty();
   }
 
   public boolean isDirty() {
-    DirtCollector c = new DirtCollector();
-    accept(c);
-    return c.isDirty() || !leafValueMap.equals(c.getLeafValues());
+    TraversalCounter outer = startMeasuring();
+    try {
+      boolean dirty;
+      if (snapshots) {
+        // Straight-line comparisons generated into the delegates, which don't poll observed leaves
+        delegate.setCounter(counter);
+        dirty = delegate.hasChanges() || dirtTracker.isTrackedDirty();
+      } else if (dirtTracker != null && dirtTracker.isValid()) {
+        dirty = dirtTracker.isTrackedDirty();
+      } else {
+        // Stops at the first difference
+        DirtCollector c = new DirtCollector(leafValueMap);
+        accept(counted(c));
+        dirty = c.differsFromBaseline();
+      }
+      recordMeasurement(Operation.IS_DIRTY, 0, 0);
+      return dirty;
+    } finally {
+      counter = outer;
+    }
+  }
+
+  public void setMetrics(EditorDriverMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  public void setSnapshotStrategy(Class<?> leafType, SnapshotStrategy strategy) {
+    if (strategy != null) {
+      if (snapshotStrategies == null) {
+        snapshotStrategies = new HashMap<Class<?>, SnapshotStrategy>();
+      }
+      snapshotStrategies.put(leafType, strategy);
+    } else if (snapshotStrategies != null) {
+      snapshotStrategies.remove(leafType);
+    }
+  }
+
+  public void setWriteChangesOnly(boolean writeChangesOnly) {
+    this.writeChangesOnly = writeChangesOnly;
+  }
+
+  /**
+   * Sets how the objects that violations are reported on are matched with the edited objects, which
+   * are compared with {@code equals} by default. Use {@link DelegateMap#IDENTITY_HASH} if the
+   * violations are reported on the edited instances themselves, or an {@link
+   * DelegateMap.IntKeyMethod} if the objects have numeric ids.
+   *
+   * @param keyMethod the key method, or {@code null} for {@link DelegateMap#IDENTITY}
+   */
+  public void setViolationKeyMethod(KeyMethod keyMethod) {
+    violationKeyMethod = keyMethod;
+    if (delegateMap != null) {
+      // The index is rebuilt with the new keys on demand
+      delegateMap.invalidate();
+      delegateMap = null;
+    }
   }
 
   public boolean setConstraintViolations(final Iterable<ConstraintViolation<?>> violations) {
@@ -73,38 +157,174 @@ public abstract class BaseEditorDriver<T, E extends Editor<T>> {
     return new Initializer();
   }
 
-  protected void doEdit(T object) {
+  /**
+   * Activates the {@link Editor.Lazy Lazy} sub-editors at, below or on the way to the given paths.
+   * Once something is being edited, the activated branches are initialized from it and become part
+   * of the baseline for {@link #isDirty()}, like the rest of the hierarchy was by {@link #doEdit}.
+   */
+  protected void doActivate(String... paths) {
     checkEditor();
-    object = delegate.ensureMutable(object);
-    this.object = object;
-    delegate.setObject(object);
-    accept(createInitializerVisitor());
-    DirtCollector c = new DirtCollector();
-    accept(c);
-    leafValueMap = c.getLeafValues();
+    final PathScope scope = PathScope.of(paths);
+    final List<String> activated = new ArrayList<String>();
+    accept(
+        new EditorVisitor() {
+          @Override
+          public <Q> boolean visit(EditorContext<Q> ctx) {
+            if (scope != null && !scope.reaches(ctx.getAbsolutePath())) {
+              return false;
+            }
+            AbstractEditorDelegate<?, ?> delegate =
+                (AbstractEditorDelegate<?, ?>) ctx.getEditorDelegate();
+            if (delegate != null) {
+              // The traversal goes on into the sub-editors activated here
+              delegate.activateLazySubDelegates(scope, activated);
+            }
+            return true;
+          }
+        });
+    if (activated.isEmpty() || object == null) {
+      return;
+    }
+
+    PathScope branches = PathScope.of(activated.toArray(new String[activated.size()]));
+    DelegateMap index = delegateMap != null && delegateMap.isTracking() ? delegateMap : null;
+    if (index != null) {
+      index.suspend();
+    }
+    try {
+      EditorVisitor initializer = PathScope.limit(branches, createInitializerVisitor());
+      accept(
+          snapshots
+              ? initializer
+              : new MultiplexVisitor(initializer, PathScope.limit(branches, dirtTracker)));
+    } finally {
+      if (index != null) {
+        index.resume();
+      }
+    }
+    if (snapshots) {
+      accept(new Snapshotter(branches, dirtTracker));
+    }
+    if (index != null) {
+      accept(PathScope.limit(branches, index.indexer()));
+    }
+  }
+
+  protected void doEdit(T object) {
+    TraversalCounter outer = startMeasuring();
+    try {
+      editHierarchy(object);
+      recordMeasurement(Operation.EDIT, 0, 0);
+    } finally {
+      counter = outer;
+    }
   }
 
   protected void doFlush() {
+    TraversalCounter outer = startMeasuring();
+    try {
+      int written = flushHierarchy(null);
+      recordMeasurement(Operation.FLUSH, written, errors.size());
+    } finally {
+      counter = outer;
+    }
+  }
+
+  /**
+   * Flushes only the editors at or below the given paths. The editors on the way to them are
+   * visited but neither flushed nor shown any errors.
+   */
+  protected void doFlush(String... paths) {
+    TraversalCounter outer = startMeasuring();
+    try {
+      int written = flushHierarchy(PathScope.of(paths));
+      recordMeasurement(Operation.FLUSH, written, errors.size());
+    } finally {
+      counter = outer;
+    }
+  }
+
+  /**
+   * Lists the leaf values that {@link #doFlush()} would write and that differ from the baseline
+   * taken by {@link #doEdit} and {@link #doRefresh}, without modifying the edited object or the
+   * errors.
+   */
+  protected List<EditorChange> doFlushChanges() {
     checkObject();
-    errors = new ArrayList<EditorError>();
-    accept(new Flusher());
-    accept(new ErrorCollector(errors));
+    ChangeCollector collector = new ChangeCollector(leafValueMap, snapshots);
+    accept(collector);
+    return collector.getChanges();
   }
 
   protected void doInitialize(E editor) {
     this.editor = editor;
+    if (delegateMap != null) {
+      delegateMap.invalidate();
+      delegateMap = null;
+    }
     delegate = createDelegate();
     configureDelegate(delegate);
   }
 
-  protected boolean doSetViolations(Iterable<SimpleViolation> violations) {
+  /**
+   * Re-reads the model values of the editors at or below the given paths and makes them the new
+   * baseline for {@link #isDirty()}. The editors on the way to them are visited but keep their
+   * values, so their model objects are expected to be unchanged.
+   */
+  protected void doRefresh(String... paths) {
     checkObject();
-    SimpleViolation.pushViolations(violations, asEditorDriver(), getViolationKeyMethod());
+    PathScope scope = PathScope.of(paths);
+    DelegateMap index = delegateMap != null && delegateMap.isTracking() ? delegateMap : null;
 
-    // Collect the errors, which will take care of co-editor chains.
-    errors = new ArrayList<EditorError>();
-    accept(new ErrorCollector(errors));
-    return hasErrors();
+    // Forget the refreshed editors first, since refreshing may replace them
+    if (index != null) {
+      accept(
+          new MultiplexVisitor(
+              PathScope.limit(scope, dirtTracker.forgetter()),
+              PathScope.limit(scope, index.unindexer())));
+      index.suspend();
+    } else {
+      accept(PathScope.limit(scope, dirtTracker.forgetter()));
+    }
+    try {
+      accept(
+          snapshots
+              ? PathScope.limit(scope, new Refresher())
+              : new MultiplexVisitor(
+                  PathScope.limit(scope, new Refresher()), PathScope.limit(scope, dirtTracker)));
+    } finally {
+      if (index != null) {
+        index.resume();
+      }
+    }
+    if (snapshots) {
+      // Only the refreshed values become the new baseline
+      accept(new Snapshotter(scope, dirtTracker));
+    }
+    if (index != null) {
+      accept(PathScope.limit(scope, index.indexer()));
+    }
+  }
+
+  protected boolean doSetViolations(Iterable<SimpleViolation> violations) {
+    TraversalCounter outer = startMeasuring();
+    try {
+      checkObject();
+      if (violations != null) {
+        if (delegateMap == null) {
+          delegateMap = DelegateMap.ofTracked(asEditorDriver(), getViolationKeyMethod());
+        }
+        SimpleViolation.pushViolations(violations, delegateMap);
+      }
+
+      // Collect the errors, which will take care of co-editor chains.
+      errors = new ArrayList<EditorError>();
+      accept(counted(new ErrorCollector(errors)));
+      recordMeasurement(Operation.SET_VIOLATIONS, 0, errors.size());
+      return hasErrors();
+    } finally {
+      counter = outer;
+    }
   }
 
   protected AbstractEditorDelegate<T, E> getDelegate() {
@@ -119,8 +339,9 @@ public abstract class BaseEditorDriver<T, E extends Editor<T>> {
     return object;
   }
 
+  /** Returns the key method set by {@link #setViolationKeyMethod}, or the default. */
   protected KeyMethod getViolationKeyMethod() {
-    return DelegateMap.IDENTITY;
+    return violationKeyMethod == null ? DelegateMap.IDENTITY : violationKeyMethod;
   }
 
   /**
@@ -131,6 +352,110 @@ public abstract class BaseEditorDriver<T, E extends Editor<T>> {
     return (EditorDriver<?>) this;
   }
 
+  /** Wraps a visitor of the operation in progress, so that its traversal is measured. */
+  private EditorVisitor counted(EditorVisitor visitor) {
+    return counter == null ? visitor : counter.count(visitor);
+  }
+
+  /** Starts measuring an operation if there are metrics, and returns the enclosing measurement. */
+  private TraversalCounter startMeasuring() {
+    TraversalCounter outer = counter;
+    counter = metrics == null ? null : new TraversalCounter();
+    return outer;
+  }
+
+  private void recordMeasurement(Operation operation, int leavesWritten, int errorCount) {
+    if (counter != null) {
+      metrics.record(
+          operation,
+          counter.getElapsedMillis(),
+          counter.getContexts(),
+          counter.getLeaves(),
+          leavesWritten,
+          errorCount);
+    }
+  }
+
+  private void editHierarchy(T object) {
+    checkEditor();
+    if (delegateMap != null) {
+      // The whole hierarchy is refreshed, so the index is rebuilt on demand
+      delegateMap.invalidate();
+      delegateMap = null;
+    }
+    object = delegate.ensureMutable(object);
+    this.object = object;
+    delegate.setObject(object);
+    if (dirtTracker != null) {
+      dirtTracker.release();
+      dirtTracker = null;
+    }
+    // The generated snapshots keep values, so the strategies need the DirtTracker
+    Map<Class<?>, SnapshotStrategy> strategies = copySnapshotStrategies();
+    snapshots = delegate.hasLeafSnapshots() && strategies == null;
+    EditorVisitor initializer = createInitializerVisitor();
+    boolean direct = delegate.hasDirectAccess() && initializer.getClass() == Initializer.class;
+    if (direct) {
+      // The generated code does what the Initializer would
+      delegate.editDirect(object);
+      if (!snapshots) {
+        dirtTracker = new DirtTracker(strategies);
+        accept(counted(dirtTracker));
+      }
+    } else if (snapshots) {
+      accept(counted(initializer));
+    } else {
+      dirtTracker = new DirtTracker(strategies);
+      accept(counted(new MultiplexVisitor(initializer, dirtTracker)));
+    }
+    if (snapshots) {
+      // The delegates hand their observable leaves to the tracker
+      dirtTracker = DirtTracker.forObservedLeaves();
+      delegate.setDirtTracker(dirtTracker);
+      // The leaves are only counted here if no traversal has read them
+      delegate.setCounter(direct ? counter : null);
+      delegate.snapshotValues();
+    }
+    leafValueMap = dirtTracker.getLeafValues();
+  }
+
+  /** Flushes the editors in {@code scope}, or all of them, and returns the number of writes. */
+  private int flushHierarchy(PathScope scope) {
+    checkObject();
+    errors = new ArrayList<EditorError>();
+    if (!writeChangesOnly) {
+      // Every flushed leaf now holds its editor's value, which the tracker doesn't keep
+      dirtTracker.recordWriteAll();
+    }
+    if (scope == null && delegate.hasDirectAccess() && !writeChangesOnly) {
+      // The generated code does what the Flusher would, then the errors are collected
+      delegate.setCounter(counter);
+      delegate.flushDirectToObject();
+      skippedWrites = 0;
+      accept(counted(new ErrorCollector(errors)));
+      return counter == null ? 0 : counter.getWrites();
+    }
+    Flusher flusher = createFlusher(scope);
+    accept(counted(new MultiplexVisitor(flusher, new ErrorCollector(errors, scope))));
+    skippedWrites = flusher.getSkippedWrites();
+    return flusher.getWrites();
+  }
+
+  /**
+   * The baseline is what the last flush wrote, else the DirtTracker's, and the delegates' for the
+   * leaves it doesn't record.
+   */
+  private Flusher createFlusher(PathScope scope) {
+    return new Flusher(scope, writeChangesOnly, dirtTracker, snapshots);
+  }
+
+  /** Strategies set during the editing session only apply from the next {@link #doEdit}. */
+  private Map<Class<?>, SnapshotStrategy> copySnapshotStrategies() {
+    return snapshotStrategies == null || snapshotStrategies.isEmpty()
+        ? null
+        : new HashMap<Class<?>, SnapshotStrategy>(snapshotStrategies);
+  }
+
   private void checkEditor() {
     if (editor == null) {
       throw new IllegalStateException("Must call initialize() first");
@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2018 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gwtproject.editor.client.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Stack;
+import org.gwtproject.editor.client.*;
+
+/**
+ * Lists the leaf values that a {@link Flusher} would write and that differ from the baseline,
+ * without touching the backing objects. {@link ValueAwareEditor#flush()} is not called, since it
+ * may write into them.
+ */
+class ChangeCollector extends EditorVisitor {
+  private final Stack<AbstractEditorDelegate<?, ?>> delegateStack =
+      new Stack<AbstractEditorDelegate<?, ?>>();
+  /** The leaf values recorded by the driver's DirtTracker, or {@code null}. */
+  private final Map<LeafValueEditor<?>, Object> baseline;
+  /** Whether the delegates record the values of the leaves missing from {@link #baseline}. */
+  private final boolean snapshots;
+
+  private final List<EditorChange> changes = new ArrayList<EditorChange>();
+
+  ChangeCollector(Map<LeafValueEditor<?>, Object> baseline, boolean snapshots) {
+    this.baseline = baseline;
+    this.snapshots = snapshots;
+  }
+
+  @Override
+  public <Q> void endVisit(EditorContext<Q> ctx) {
+    AbstractEditorDelegate<?, ?> delegate;
+    if (ctx.getEditorDelegate() == null) {
+      delegate = delegateStack.peek();
+    } else {
+      delegate = delegateStack.pop();
+    }
+    assert delegate != null;
+
+    LeafValueEditor<Q> asLeaf = ctx.asLeafValueEditor();
+    if (!delegate.shouldFlush() || asLeaf == null || !ctx.canSetInModel()) {
+      return;
+    }
+    Q value = asLeaf.getValue();
+    Object oldValue;
+    if (baseline != null && (baseline.containsKey(asLeaf) || !snapshots)) {
+      if (baseline.containsKey(asLeaf)) {
+        Object recorded = baseline.get(asLeaf);
+        if (LeafSnapshot.matches(recorded, value)) {
+          return;
+        }
+        // A SnapshotStrategy may have kept a key instead, then the model's value stands in for it
+        oldValue = LeafSnapshot.isValue(recorded) ? recorded : ctx.getFromModel();
+      } else {
+        // Attached after the baseline was taken, so the model is all there is to compare with
+        oldValue = ctx.getFromModel();
+      }
+    } else if (ctx.getEditorDelegate() != null) {
+      // An editor with a delegate records its own value, otherwise the enclosing delegate does
+      if (!delegate.isOwnValueChanged()) {
+        return;
+      }
+      oldValue = delegate.getOwnSnapshot();
+    } else {
+      if (!delegate.isLeafValueChanged(ctx)) {
+        return;
+      }
+      oldValue = delegate.getLeafSnapshot(ctx);
+    }
+    changes.add(new SimpleChange(ctx.getAbsolutePath(), ctx.getEditor(), oldValue, value));
+  }
+
+  /** Returns the changes in the order of the traversal. */
+  List<EditorChange> getChanges() {
+    return changes;
+  }
+
+  @Override
+  public <Q> boolean visit(EditorContext<Q> ctx) {
+    EditorDelegate<Q> editorDelegate = ctx.getEditorDelegate();
+    if (editorDelegate != null) {
+      delegateStack.push((AbstractEditorDelegate<?, ?>) editorDelegate);
+    }
+    return true;
+  }
+}
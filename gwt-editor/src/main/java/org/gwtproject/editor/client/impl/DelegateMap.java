@@ -21,7 +21,13 @@ import org.gwtproject.editor.client.EditorContext;
 import org.gwtproject.editor.client.EditorDriver;
 import org.gwtproject.editor.client.EditorVisitor;
 
-/** Allows fast traversal of an Editor hierarchy. */
+/**
+ * Allows fast traversal of an Editor hierarchy.
+ *
+ * <p>A DelegateMap built by {@link #ofTracked} is kept up to date by the {@link
+ * AbstractEditorDelegate.Chain EditorChains} as sub-Editors are attached and detached, until it is
+ * {@link #invalidate() invalidated}.
+ */
 public class DelegateMap implements Iterable<AbstractEditorDelegate<?, ?>> {
   /**
    * Defines an equivalence relationship to allow objects with non-identity equality to be used as
@@ -31,13 +37,177 @@ public class DelegateMap implements Iterable<AbstractEditorDelegate<?, ?>> {
     Object key(Object object);
   }
 
+  /**
+   * A KeyMethod for objects identified by a numeric id. The DelegateMap indexes the delegates by
+   * the {@code int} ids directly, so that indexing a delegate or looking up a violation neither
+   * boxes the id nor calls {@code equals} or {@code hashCode} on the edited objects. Only {@link
+   * #key(Object)} and {@link DelegateMap#getRaw(Object)} box it, as their signatures require.
+   */
+  public abstract static class IntKeyMethod implements KeyMethod {
+    /**
+     * Returns {@code true} if the non-null object has an id. The default implementation returns
+     * {@code true}.
+     *
+     * @param object the edited object
+     * @return whether {@link #intKey(Object)} can be called
+     */
+    public boolean hasKey(Object object) {
+      return true;
+    }
+
+    /**
+     * Returns the id of an object for which {@link #hasKey(Object)} returned {@code true}.
+     *
+     * @param object the edited object
+     * @return the id
+     */
+    public abstract int intKey(Object object);
+
+    public final Object key(Object object) {
+      return object == null || !hasKey(object) ? null : (Object) intKey(object);
+    }
+  }
+
+  /** Adds or removes the visited Editors and delegates. */
+  private class Indexer extends EditorVisitor {
+    private final boolean remove;
+
+    Indexer(boolean remove) {
+      this.remove = remove;
+    }
+
+    @Override
+    public <T> void endVisit(EditorContext<T> ctx) {
+      @SuppressWarnings("unchecked")
+      AbstractEditorDelegate<T, ?> delegate =
+          (AbstractEditorDelegate<T, ?>) ctx.getEditorDelegate();
+      if (remove) {
+        PathNode node = nodes.get(ctx.getAbsolutePath());
+        if (node != null) {
+          node.editors = removeFrom(node.editors, ctx.getEditor());
+        }
+        if (delegate != null) {
+          node = nodes.get(delegate.getPath());
+          if (node != null) {
+            node.delegates = removeFrom(node.delegates, delegate);
+          }
+          removeKey(delegate);
+          if (tracked) {
+            delegate.setDelegateMap(null);
+          }
+        }
+        return;
+      }
+      put(ctx.getAbsolutePath(), ctx.getEditor());
+      if (delegate != null) {
+        if (tracked) {
+          delegate.setDelegateMap(DelegateMap.this);
+        }
+        put(delegate.getObject(), delegate);
+      }
+    }
+  }
+
+  /**
+   * A node of the path trie, holding the delegates and Editors registered at its absolute path.
+   * Property names and bracketed path elements, such as {@code [2]}, are separate levels of the
+   * trie, so that a path can be resolved by descending one element at a time.
+   */
+  static final class PathNode {
+    /** The absolute path of the node. */
+    final String path;
+
+    List<AbstractEditorDelegate<?, ?>> delegates;
+    List<Editor<?>> editors;
+    private List<PathNode> indexed;
+    private Map<String, PathNode> named;
+
+    PathNode(String path) {
+      this.path = path;
+    }
+
+    /**
+     * Returns the end of the path element starting at {@code start}, which is either a bracketed
+     * element or a name ending before the next {@code '.'} or {@code '['}.
+     */
+    static int segmentEnd(String path, int start) {
+      int length = path.length();
+      if (path.charAt(start) == '[') {
+        int close = path.indexOf(']', start);
+        return close < 0 ? length : close + 1;
+      }
+      int end = start;
+      while (end < length && path.charAt(end) != '.' && path.charAt(end) != '[') {
+        end++;
+      }
+      return end;
+    }
+
+    /** Returns the index of a bracketed numeric path element, or -1. */
+    private static int indexOf(String segment) {
+      int length = segment.length();
+      if (length < 3 || length > 11 || segment.charAt(length - 1) != ']') {
+        return -1;
+      }
+      if (length > 3 && segment.charAt(1) == '0') {
+        // Not the canonical form of an index
+        return -1;
+      }
+      int index = 0;
+      for (int i = 1; i < length - 1; i++) {
+        char c = segment.charAt(i);
+        if (c < '0' || c > '9') {
+          return -1;
+        }
+        index = index * 10 + (c - '0');
+      }
+      return index;
+    }
+
+    PathNode child(int index) {
+      return indexed == null || index < 0 || index >= indexed.size() ? null : indexed.get(index);
+    }
+
+    PathNode child(String segment) {
+      int index = indexOf(segment);
+      if (index >= 0) {
+        return child(index);
+      }
+      return named == null ? null : named.get(segment);
+    }
+
+    boolean hasEntries() {
+      return delegates != null || editors != null;
+    }
+
+    private PathNode addChild(String segment, String childPath) {
+      PathNode child = new PathNode(childPath);
+      int index = indexOf(segment);
+      if (index >= 0) {
+        if (indexed == null) {
+          indexed = new ArrayList<PathNode>();
+        }
+        while (indexed.size() <= index) {
+          indexed.add(null);
+        }
+        indexed.set(index, child);
+      } else {
+        if (named == null) {
+          named = new HashMap<String, PathNode>();
+        }
+        named.put(segment, child);
+      }
+      return child;
+    }
+  }
+
   private static class MapIterator implements Iterator<AbstractEditorDelegate<?, ?>> {
     private AbstractEditorDelegate<?, ?> next;
     private Iterator<AbstractEditorDelegate<?, ?>> list;
     private Iterator<List<AbstractEditorDelegate<?, ?>>> values;
 
     public MapIterator(DelegateMap map) {
-      values = map.map.values().iterator();
+      values = map.intMap == null ? map.map.values().iterator() : map.intMap.values().iterator();
       next();
     }
 
@@ -71,6 +241,7 @@ public class DelegateMap implements Iterable<AbstractEditorDelegate<?, ?>> {
     }
   }
 
+  /** Uses the edited objects as keys, compared with {@code equals} and {@code hashCode}. */
   public static final KeyMethod IDENTITY =
       new KeyMethod() {
         public Object key(Object object) {
@@ -78,37 +249,89 @@ public class DelegateMap implements Iterable<AbstractEditorDelegate<?, ?>> {
         }
       };
 
+  /**
+   * Uses the edited objects as keys, compared by identity, so that the {@code equals} and {@code
+   * hashCode} methods of the edited objects are never called. Meant for drivers which {@link
+   * BaseEditorDriver#setViolationKeyMethod report violations} on the edited instances themselves,
+   * and whose objects have costly equality methods.
+   */
+  public static final KeyMethod IDENTITY_HASH =
+      new KeyMethod() {
+        public Object key(Object object) {
+          return object;
+        }
+      };
+
   public static DelegateMap of(EditorDriver<?> driver, KeyMethod key) {
-    final DelegateMap toReturn = new DelegateMap(key);
-    driver.accept(
-        new EditorVisitor() {
-          @Override
-          public <T> void endVisit(EditorContext<T> ctx) {
-            toReturn.put(ctx.getAbsolutePath(), ctx.getEditor());
-            @SuppressWarnings("unchecked")
-            AbstractEditorDelegate<T, ?> delegate =
-                (AbstractEditorDelegate<T, ?>) ctx.getEditorDelegate();
-            if (delegate != null) {
-              toReturn.put(delegate.getObject(), delegate);
-            }
-          }
-        });
+    DelegateMap toReturn = new DelegateMap(key);
+    driver.accept(toReturn.indexer());
+    return toReturn;
+  }
+
+  /**
+   * Builds a DelegateMap which the delegates of the driver keep up to date, until it is {@link
+   * #invalidate() invalidated}. The key of a delegate is computed when it is indexed, and updated
+   * when the delegate's object is replaced outside of a refresh.
+   */
+  static DelegateMap ofTracked(EditorDriver<?> driver, KeyMethod key) {
+    DelegateMap toReturn = new DelegateMap(key);
+    toReturn.tracked = true;
+    if (toReturn.intMap == null) {
+      toReturn.keys = new IdentityHashMap<AbstractEditorDelegate<?, ?>, Object>();
+    }
+    driver.accept(toReturn.indexer());
     return toReturn;
   }
 
-  private final Map<Object, List<AbstractEditorDelegate<?, ?>>> map =
-      new HashMap<Object, List<AbstractEditorDelegate<?, ?>>>();
-  private final Map<String, List<AbstractEditorDelegate<?, ?>>> delegatesByPath =
-      new HashMap<String, List<AbstractEditorDelegate<?, ?>>>();
-  private final Map<String, List<Editor<?>>> editorsByPath = new HashMap<String, List<Editor<?>>>();
+  /** The delegates by id, only used with an {@link IntKeyMethod}. */
+  private final IntKeyedLists<AbstractEditorDelegate<?, ?>> intMap;
+
+  private final IntKeyMethod intKeyMethod;
+
+  /** The delegates by key. Keys produced by {@link #IDENTITY_HASH} are compared by identity. */
+  private final Map<Object, List<AbstractEditorDelegate<?, ?>>> map;
+  /** The nodes of the path trie by absolute path. */
+  private final Map<String, PathNode> nodes = new HashMap<String, PathNode>();
+
+  private final PathNode root = new PathNode("");
 
   private final KeyMethod keyMethod;
+  /**
+   * The key of each tracked delegate, {@code null} if the map is not tracked or uses an {@link
+   * IntKeyMethod}, in which case the delegates hold their ids.
+   */
+  private Map<AbstractEditorDelegate<?, ?>, Object> keys;
+  /** Whether the delegates keep this map up to date, see {@link #ofTracked}. */
+  private boolean tracked;
+
+  /** Suspends the updates while a sub-Editor is being re-attached. */
+  private int suspended;
+
+  private boolean valid = true;
 
   DelegateMap(KeyMethod key) {
     this.keyMethod = key;
+    if (key instanceof IntKeyMethod) {
+      intKeyMethod = (IntKeyMethod) key;
+      intMap = new IntKeyedLists<AbstractEditorDelegate<?, ?>>();
+    } else {
+      intKeyMethod = null;
+      intMap = null;
+    }
+    if (key == IDENTITY_HASH) {
+      map = new IdentityHashMap<Object, List<AbstractEditorDelegate<?, ?>>>();
+    } else {
+      map = new HashMap<Object, List<AbstractEditorDelegate<?, ?>>>();
+    }
+    nodes.put("", root);
   }
 
   public List<AbstractEditorDelegate<?, ?>> get(Object object) {
+    if (intMap != null) {
+      return object == null || !intKeyMethod.hasKey(object)
+          ? null
+          : intMap.get(intKeyMethod.intKey(object));
+    }
     Object key = keyMethod.key(object);
     return key == null ? null : map.get(key);
   }
@@ -120,7 +343,8 @@ public class DelegateMap implements Iterable<AbstractEditorDelegate<?, ?>> {
    * @return List&lt;AbstractEditorDelegate&gt;
    */
   public List<AbstractEditorDelegate<?, ?>> getDelegatesByPath(String path) {
-    return delegatesByPath.get(path);
+    PathNode node = nodes.get(path);
+    return node == null ? null : node.delegates;
   }
 
   /**
@@ -130,7 +354,8 @@ public class DelegateMap implements Iterable<AbstractEditorDelegate<?, ?>> {
    * @return List&lt;Editor&lt;?&gt;&gt;
    */
   public List<Editor<?>> getEditorByPath(String path) {
-    return editorsByPath.get(path);
+    PathNode node = nodes.get(path);
+    return node == null ? null : node.editors;
   }
 
   /**
@@ -140,13 +365,75 @@ public class DelegateMap implements Iterable<AbstractEditorDelegate<?, ?>> {
    * @return List&lt;AbstractEditorDelegate&lt;?, ?&gt;&gt;
    */
   public List<AbstractEditorDelegate<?, ?>> getRaw(Object key) {
+    if (intMap != null) {
+      return key instanceof Integer ? intMap.get(((Integer) key).intValue()) : null;
+    }
     return map.get(key);
   }
 
+  /**
+   * Accesses the delegate map without using the KeyMethod, without boxing the id if the map uses an
+   * {@link IntKeyMethod}.
+   *
+   * @param key the key
+   * @return List&lt;AbstractEditorDelegate&lt;?, ?&gt;&gt;
+   */
+  public List<AbstractEditorDelegate<?, ?>> getRaw(int key) {
+    return intMap != null ? intMap.get(key) : map.get(key);
+  }
+
   public Iterator<AbstractEditorDelegate<?, ?>> iterator() {
     return new MapIterator(this);
   }
 
+  /**
+   * Returns the node of the path trie for an absolute path, or {@code null} if nothing was
+   * registered at or below that path.
+   */
+  PathNode getNode(String path) {
+    return nodes.get(path);
+  }
+
+  /** Returns a visitor which adds the visited Editors and delegates. */
+  EditorVisitor indexer() {
+    return new Indexer(false);
+  }
+
+  /** Stops tracking changes to the Editor hierarchy. */
+  void invalidate() {
+    valid = false;
+  }
+
+  /**
+   * Returns {@code true} if changes to the Editor hierarchy should be applied to this map, which is
+   * not the case while a sub-Editor is being re-attached.
+   */
+  boolean isTracking() {
+    return valid && tracked && suspended == 0;
+  }
+
+  /** Moves a delegate to the key of its new object. */
+  void rekey(AbstractEditorDelegate<?, ?> delegate, Object object) {
+    if (intMap != null ? delegate.getDelegateMap() != this : !keys.containsKey(delegate)) {
+      return;
+    }
+    removeKey(delegate);
+    put(object, delegate, false);
+  }
+
+  void resume() {
+    suspended--;
+  }
+
+  void suspend() {
+    suspended++;
+  }
+
+  /** Returns a visitor which removes the visited Editors and delegates. */
+  EditorVisitor unindexer() {
+    return new Indexer(true);
+  }
+
   <K, V> void add(Map<K, List<V>> map, K key, V value) {
     List<V> list = map.get(key);
     if (list == null) {
@@ -157,17 +444,114 @@ public class DelegateMap implements Iterable<AbstractEditorDelegate<?, ?>> {
   }
 
   <T> void put(String path, Editor<T> editor) {
-    add(editorsByPath, path, editor);
+    PathNode node = node(path);
+    if (node.editors == null) {
+      node.editors = new ArrayList<Editor<?>>();
+    }
+    node.editors.add(editor);
   }
 
   <T> void put(T object, AbstractEditorDelegate<T, ?> delegate) {
-    add(delegatesByPath, delegate.getPath(), delegate);
+    put(object, delegate, true);
+  }
+
+  private void put(Object object, AbstractEditorDelegate<?, ?> delegate, boolean byPath) {
+    if (byPath) {
+      PathNode node = node(delegate.getPath());
+      if (node.delegates == null) {
+        node.delegates = new ArrayList<AbstractEditorDelegate<?, ?>>();
+      }
+      node.delegates.add(delegate);
+    }
+
+    if (intMap != null) {
+      boolean hasKey = object != null && intKeyMethod.hasKey(object);
+      int key = hasKey ? intKeyMethod.intKey(object) : 0;
+      if (tracked) {
+        // Remembered for the removal, even if the id of the object changes meanwhile
+        delegate.intKey = key;
+        delegate.hasIntKey = hasKey;
+      }
+      if (hasKey) {
+        intMap.add(key, delegate);
+      }
+      return;
+    }
 
     Object key = keyMethod.key(object);
+    if (keys != null) {
+      keys.put(delegate, key);
+    }
     if (key == null) {
       return;
     }
 
     add(map, key, delegate);
   }
+
+  /** Returns the node of the path trie for an absolute path, creating it as needed. */
+  private PathNode node(String path) {
+    PathNode node = nodes.get(path);
+    if (node != null) {
+      return node;
+    }
+    node = root;
+    for (int i = 0, end; i < path.length(); i = end) {
+      if (path.charAt(i) == '.') {
+        end = i + 1;
+        continue;
+      }
+      end = PathNode.segmentEnd(path, i);
+      String segment = path.substring(i, end);
+      PathNode child = node.child(segment);
+      if (child == null) {
+        child = node.addChild(segment, path.substring(0, end));
+        if (!nodes.containsKey(child.path)) {
+          nodes.put(child.path, child);
+        }
+      }
+      node = child;
+    }
+    nodes.put(path, node);
+    return node;
+  }
+
+  private void removeKey(AbstractEditorDelegate<?, ?> delegate) {
+    if (intMap != null) {
+      if (delegate.getDelegateMap() == this && delegate.hasIntKey) {
+        intMap.remove(delegate.intKey, delegate);
+        delegate.hasIntKey = false;
+      }
+      return;
+    }
+    Object key = keys.remove(delegate);
+    if (key != null) {
+      removeValue(map, key, delegate);
+    }
+  }
+
+  /** Removes one occurrence of {@code value}, compared by identity, and drops emptied lists. */
+  private <K, V> void removeValue(Map<K, List<V>> map, K key, V value) {
+    List<V> list = removeFrom(map.get(key), value);
+    if (list == null) {
+      map.remove(key);
+    }
+  }
+
+  /**
+   * Removes one occurrence of {@code value}, compared by identity, returning {@code null} if the
+   * list is empty.
+   */
+  private static <V> List<V> removeFrom(List<V> list, V value) {
+    if (list == null) {
+      return null;
+    }
+    for (int i = 0, j = list.size(); i < j; i++) {
+      if (list.get(i) == value) {
+        list.remove(i);
+        break;
+      }
+    }
+    return list.isEmpty() ? null : list;
+  }
 }
@@ -20,23 +20,80 @@ import java.util.Map;
 import org.gwtproject.editor.client.EditorContext;
 import org.gwtproject.editor.client.EditorVisitor;
 import org.gwtproject.editor.client.LeafValueEditor;
+import org.gwtproject.editor.client.SnapshotStrategy;
 
 class DirtCollector extends EditorVisitor {
   public boolean dirty;
+  /** The values to compare against, or {@code null} if the values are only recorded. */
+  private final Map<LeafValueEditor<?>, Object> baseline;
+  /** Decides what is recorded for the leaves of some types, or {@code null} to record values. */
+  private final Map<Class<?>, SnapshotStrategy> strategies;
+  /** Whether the leaves missing from the baseline are left alone rather than dirty. */
+  private final boolean partial;
+
   private final Map<LeafValueEditor<?>, Object> leafValues =
       new HashMap<LeafValueEditor<?>, Object>();
 
+  public DirtCollector() {
+    this(null);
+  }
+
+  /**
+   * Creates a collector which halts the traversal at the first leaf value that differs from {@code
+   * baseline}, or the first dirty delegate.
+   */
+  DirtCollector(Map<LeafValueEditor<?>, Object> baseline) {
+    this(baseline, null);
+  }
+
+  DirtCollector(
+      Map<LeafValueEditor<?>, Object> baseline, Map<Class<?>, SnapshotStrategy> strategies) {
+    this(baseline, strategies, false);
+  }
+
+  /**
+   * Creates a collector like {@link #DirtCollector(Map)} which, if {@code partial} is set, only
+   * compares the leaves that have a value in {@code baseline}.
+   */
+  DirtCollector(
+      Map<LeafValueEditor<?>, Object> baseline,
+      Map<Class<?>, SnapshotStrategy> strategies,
+      boolean partial) {
+    this.baseline = baseline;
+    this.strategies = strategies;
+    this.partial = partial;
+  }
+
   @Override
   public <T> void endVisit(EditorContext<T> ctx) {
     LeafValueEditor<T> editor = ctx.asLeafValueEditor();
     if (editor != null) {
-      leafValues.put(editor, editor.getValue());
+      T value = editor.getValue();
+      leafValues.put(editor, LeafSnapshot.record(strategies, ctx, value));
+      if (baseline != null
+          && (baseline.containsKey(editor)
+              ? !LeafSnapshot.matches(baseline.get(editor), value)
+              : !partial)) {
+        dirty = true;
+      }
     }
     @SuppressWarnings("unchecked")
     AbstractEditorDelegate<T, ?> delegate = (AbstractEditorDelegate<T, ?>) ctx.getEditorDelegate();
     if (delegate != null) {
       dirty |= delegate.isDirty();
     }
+    if (dirty && baseline != null) {
+      ctx.halt();
+    }
+  }
+
+  /**
+   * Returns {@code true} if the visited leaf values differ from the baseline passed to the
+   * constructor, or if {@link org.gwtproject.editor.client.EditorDelegate#setDirty(boolean)} was
+   * used.
+   */
+  public boolean differsFromBaseline() {
+    return dirty || leafValues.size() != baseline.size();
   }
 
   public Map<LeafValueEditor<?>, Object> getLeafValues() {
@@ -50,4 +107,9 @@ class DirtCollector extends EditorVisitor {
   public boolean isDirty() {
     return dirty;
   }
+
+  /** Returns the strategies deciding what is recorded, or {@code null}. */
+  Map<Class<?>, SnapshotStrategy> getStrategies() {
+    return strategies;
+  }
 }
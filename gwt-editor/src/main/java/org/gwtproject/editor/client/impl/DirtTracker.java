@@ -0,0 +1,257 @@
+/*
+ * Copyright © 2018 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gwtproject.editor.client.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.gwtproject.editor.client.EditorContext;
+import org.gwtproject.editor.client.EditorVisitor;
+import org.gwtproject.editor.client.LeafValueEditor;
+import org.gwtproject.editor.client.ObservableLeafValueEditor;
+import org.gwtproject.editor.client.ObservableLeafValueEditor.ValueChangeListener;
+import org.gwtproject.editor.client.SnapshotStrategy;
+import org.gwtproject.event.shared.HandlerRegistration;
+
+/**
+ * Records the leaf values of an Editor hierarchy like {@link DirtCollector} and then keeps the
+ * dirty state up to date as {@link ObservableLeafValueEditor ObservableLeafValueEditors} report
+ * changes and delegates are marked dirty. Plain {@link LeafValueEditor LeafValueEditors} are
+ * compared against their recorded values on demand, without traversing the hierarchy.
+ *
+ * <p>Attaching or detaching sub-editors through an EditorChain changes the shape of the hierarchy,
+ * which the tracker cannot follow; it is then invalidated and {@link BaseEditorDriver#isDirty()}
+ * falls back to a full traversal until the next call to {@code edit()}. Sub-editors attached or
+ * detached as unchanged are instead forgotten and recorded again, which keeps the tracker valid.
+ *
+ * <p>Delegates generated with dirty checks compare the values of the other leaves themselves and
+ * only hand their observable leaves to a tracker created by {@link #forObservedLeaves()}, which is
+ * not used as a visitor and stays valid, since the delegates detect the changes of shape.
+ *
+ * <p>The tracker also records what the flushes have written into the model since the edit, which
+ * replaces the baseline of the leaves for flushes that only write changes.
+ */
+class DirtTracker extends DirtCollector implements ValueChangeListener {
+  private final Set<AbstractEditorDelegate<?, ?>> dirtyDelegates =
+      new HashSet<AbstractEditorDelegate<?, ?>>();
+  private final Set<LeafValueEditor<?>> divergentLeaves = new HashSet<LeafValueEditor<?>>();
+  private final Map<LeafValueEditor<?>, HandlerRegistration> registrations =
+      new HashMap<LeafValueEditor<?>, HandlerRegistration>();
+  private final List<LeafValueEditor<?>> unobservedLeaves = new ArrayList<LeafValueEditor<?>>();
+  /** Whether only the leaves passed to {@link #observe} are tracked. */
+  private final boolean observedOnly;
+
+  /** The values recorded by {@link #recordWrite}, created on demand. */
+  private Map<LeafValueEditor<?>, Object> writtenValues;
+  /** Whether a flush has written every leaf since the values in {@link #writtenValues}. */
+  private boolean writtenAll;
+
+  private boolean valid = true;
+
+  DirtTracker(Map<Class<?>, SnapshotStrategy> strategies) {
+    this(strategies, false);
+  }
+
+  private DirtTracker(Map<Class<?>, SnapshotStrategy> strategies, boolean observedOnly) {
+    super(null, strategies);
+    this.observedOnly = observedOnly;
+  }
+
+  /** Creates a tracker for the observable leaves of delegates generated with dirty checks. */
+  static DirtTracker forObservedLeaves() {
+    return new DirtTracker(null, true);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> void endVisit(EditorContext<T> ctx) {
+    LeafValueEditor<T> editor = ctx.asLeafValueEditor();
+    if (editor != null && !getLeafValues().containsKey(editor)) {
+      if (editor instanceof ObservableLeafValueEditor<?>) {
+        registrations.put(
+            editor, ((ObservableLeafValueEditor<T>) editor).addValueChangeListener(this));
+      } else {
+        unobservedLeaves.add(editor);
+      }
+    }
+    super.endVisit(ctx);
+    AbstractEditorDelegate<T, ?> delegate = (AbstractEditorDelegate<T, ?>) ctx.getEditorDelegate();
+    if (delegate != null) {
+      delegate.setDirtTracker(this);
+      if (delegate.isDirty()) {
+        dirtyDelegates.add(delegate);
+      }
+    }
+  }
+
+  /**
+   * Returns a visitor which halts the traversal at the first leaf that differs from the value
+   * recorded by this tracker, or the first dirty delegate. Leaves that this tracker does not record
+   * count as dirty, unless it only tracks {@link #forObservedLeaves() observed leaves}.
+   */
+  public DirtCollector comparer() {
+    return new DirtCollector(getLeafValues(), null, observedOnly);
+  }
+
+  /**
+   * Returns a visitor which drops the recorded values of the visited leaves and the dirty state of
+   * the visited delegates, so that they are recorded afresh the next time this tracker visits them.
+   */
+  public EditorVisitor forgetter() {
+    return new EditorVisitor() {
+      @Override
+      public <T> void endVisit(EditorContext<T> ctx) {
+        LeafValueEditor<T> editor = ctx.asLeafValueEditor();
+        if (editor != null) {
+          forget(editor);
+        }
+        dirtyDelegates.remove(ctx.getEditorDelegate());
+      }
+    };
+  }
+
+  /** Stops tracking because the Editor hierarchy has changed shape. */
+  public void invalidate() {
+    if (!observedOnly) {
+      valid = false;
+    }
+  }
+
+  /**
+   * Returns {@code true} if the tracked state still describes the Editor hierarchy, in which case
+   * {@link #isTrackedDirty()} may be used instead of a traversal.
+   */
+  public boolean isValid() {
+    return valid;
+  }
+
+  /** Returns the dirty state of the hierarchy. Only meaningful while {@link #isValid()}. */
+  public boolean isTrackedDirty() {
+    if (!dirtyDelegates.isEmpty() || !divergentLeaves.isEmpty()) {
+      return true;
+    }
+    Map<LeafValueEditor<?>, Object> leafValues = getLeafValues();
+    for (LeafValueEditor<?> editor : unobservedLeaves) {
+      if (!LeafSnapshot.matches(leafValues.get(editor), editor.getValue())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Records the current value of an observable leaf as its baseline, and listens to its changes
+   * until it is forgotten or this tracker is released.
+   */
+  public void observe(ObservableLeafValueEditor<?> editor) {
+    if (!valid) {
+      return;
+    }
+    forget(editor);
+    getLeafValues().put(editor, editor.getValue());
+    registrations.put(editor, editor.addValueChangeListener(this));
+  }
+
+  @Override
+  public void onValueChange(ObservableLeafValueEditor<?> editor) {
+    if (!valid) {
+      return;
+    }
+    if (LeafSnapshot.matches(getLeafValues().get(editor), editor.getValue())) {
+      divergentLeaves.remove(editor);
+    } else {
+      divergentLeaves.add(editor);
+    }
+  }
+
+  /** Unregisters all listeners. The tracker is permanently invalid afterwards. */
+  public void release() {
+    valid = false;
+    for (HandlerRegistration registration : registrations.values()) {
+      registration.removeHandler();
+    }
+    registrations.clear();
+  }
+
+  /**
+   * Returns {@code true} if a flush has written the value of the leaf since it was recorded, in
+   * which case the model holds the written value rather than the recorded one.
+   */
+  boolean isWritten(LeafValueEditor<?> editor) {
+    return writtenAll || (writtenValues != null && writtenValues.containsKey(editor));
+  }
+
+  /**
+   * Returns {@code true} if {@code value} differs from the last value written for the leaf editor
+   * of {@code ctx}. If that value was written by a flush that {@link #recordWriteAll() wrote every
+   * leaf}, the value in the model is the one compared.
+   */
+  boolean isChangedSinceWrite(EditorContext<?> ctx, LeafValueEditor<?> editor, Object value) {
+    if (writtenValues != null && writtenValues.containsKey(editor)) {
+      return !LeafSnapshot.matches(writtenValues.get(editor), value);
+    }
+    return !Objects.equals(ctx.getFromModel(), value);
+  }
+
+  /** Records the value of the leaf editor of {@code ctx} that a flush has written. */
+  void recordWrite(EditorContext<?> ctx, LeafValueEditor<?> editor, Object value) {
+    if (writtenValues == null) {
+      writtenValues = new HashMap<LeafValueEditor<?>, Object>();
+    }
+    writtenValues.put(editor, LeafSnapshot.record(getStrategies(), ctx, value));
+  }
+
+  /**
+   * Records that a flush has written the leaves without keeping their values, so that the flushes
+   * writing changes compare the leaves against the model until they record their own writes.
+   */
+  void recordWriteAll() {
+    writtenValues = null;
+    writtenAll = true;
+  }
+
+  void onDelegateDirty(AbstractEditorDelegate<?, ?> delegate, boolean dirty) {
+    if (!valid) {
+      return;
+    }
+    if (dirty) {
+      dirtyDelegates.add(delegate);
+    } else {
+      dirtyDelegates.remove(delegate);
+    }
+  }
+
+  private void forget(LeafValueEditor<?> editor) {
+    if (writtenValues != null) {
+      writtenValues.remove(editor);
+    }
+    if (!getLeafValues().containsKey(editor)) {
+      return;
+    }
+    getLeafValues().remove(editor);
+    HandlerRegistration registration = registrations.remove(editor);
+    if (registration != null) {
+      registration.removeHandler();
+    } else {
+      unobservedLeaves.remove(editor);
+    }
+    divergentLeaves.remove(editor);
+  }
+}
@@ -16,45 +16,77 @@
 package org.gwtproject.editor.client.impl;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Stack;
+import java.util.Objects;
 import org.gwtproject.editor.client.EditorContext;
 import org.gwtproject.editor.client.EditorError;
 import org.gwtproject.editor.client.EditorVisitor;
+import org.gwtproject.editor.client.HasEditorErrorChanges;
 import org.gwtproject.editor.client.HasEditorErrors;
 
-/** Collects and propagates EditorErrors through an Editor hierarchy. */
+/**
+ * Collects and propagates EditorErrors through an Editor hierarchy.
+ *
+ * <p>All errors are appended to a single buffer, the list passed to the constructor. Each error
+ * domain opened by a {@link HasEditorErrors} editor is the tail of that buffer starting at the
+ * index recorded when the domain was opened, so a traversal that finds no errors allocates nothing
+ * per editor.
+ */
 class ErrorCollector extends EditorVisitor {
-  private final Stack<List<EditorError>> errorStack = new Stack<List<EditorError>>();
+  private static final List<EditorError> NO_ERRORS = Collections.emptyList();
+
+  private final List<EditorError> buffer;
+  /** Limits collection to some branches of the hierarchy, or {@code null} to collect all of it. */
+  private final PathScope scope;
+  /** The start of each open error domain; the root domain is not recorded. */
+  private int[] domainStarts = new int[8];
+
+  private int depth;
   private String lastAddedPath;
+  /** The range of the buffer that holds the errors of the delegate at {@link #lastAddedPath}. */
+  private int lastAddedStart;
+
+  private int lastAddedEnd;
+  /** A copy of the last added errors, once the range above no longer describes them. */
   private List<EditorError> lastAdded;
 
   public ErrorCollector(List<EditorError> errors) {
+    this(errors, null);
+  }
+
+  ErrorCollector(List<EditorError> errors, PathScope scope) {
     assert errors != null;
-    errorStack.push(errors);
+    buffer = errors;
+    this.scope = scope;
   }
 
   @Override
   public <T> void endVisit(EditorContext<T> ctx) {
     AbstractEditorDelegate<?, ?> delegate = (AbstractEditorDelegate<?, ?>) ctx.getEditorDelegate();
-    if (delegate == null) {
+    if (delegate == null || scope != null && !scope.contains(ctx.getAbsolutePath())) {
       return;
     }
 
     // Collect errors
-    List<EditorError> errors = delegate.getErrors();
-    lastAdded = new ArrayList<EditorError>(errors);
+    List<EditorError> errors = delegate.takeErrors();
     lastAddedPath = ctx.getAbsolutePath();
-    errorStack.peek().addAll(errors);
-    errors.clear();
+    lastAddedStart = buffer.size();
+    if (errors != null) {
+      buffer.addAll(errors);
+    }
+    lastAddedEnd = buffer.size();
+    lastAdded = null;
 
     // Filter collected errors through an error-aware editor
     HasEditorErrors<T> asErrors = ctx.asHasEditorErrors();
     if (asErrors != null) {
       // Get the enclosing error domain
-      List<EditorError> tryConsume = errorStack.pop();
+      int start = domainStarts[--depth];
+      int end = buffer.size();
       int prefixLength = ctx.getAbsolutePath().length();
-      for (EditorError error : tryConsume) {
+      for (int i = start; i < end; i++) {
+        EditorError error = buffer.get(i);
         if ((prefixLength > 0) && (prefixLength < error.getAbsolutePath().length())) {
           // Remove trailing dot
           ((SimpleError) error).setPathPrefixLength(prefixLength + 1);
@@ -66,28 +98,39 @@ class ErrorCollector extends EditorVisitor {
       /*
        * Pass collected errors to the editor. Must pass empty error collection
        * to the editor so that it can clear any existing errors when problems
-       * are fixed.
+       * are fixed, unless it is still showing exactly those errors.
        */
-      asErrors.showErrors(tryConsume);
+      show(delegate, asErrors, start, end);
 
       // Short-circuit if there are no existing errors
-      if (!tryConsume.isEmpty()) {
-        List<EditorError> accumulator = errorStack.peek();
-        for (EditorError e : tryConsume) {
-          // Pass unconsumed error to enclosing domain
+      if (start < end) {
+        if (start < lastAddedEnd && lastAddedStart < lastAddedEnd) {
+          // Compacting below would move the last added errors
+          lastAdded = new ArrayList<EditorError>(buffer.subList(lastAddedStart, lastAddedEnd));
+        }
+        // Pass unconsumed errors to the enclosing domain, which owns the tail
+        int kept = start;
+        for (int i = start; i < end; i++) {
+          EditorError e = buffer.get(i);
           if (!e.isConsumed()) {
-            accumulator.add(e);
+            buffer.set(kept++, e);
           }
         }
+        truncate(kept);
       }
     }
   }
 
   @Override
   public <Q> boolean visit(EditorContext<Q> ctx) {
+    if (scope != null && !scope.contains(ctx.getAbsolutePath())) {
+      // Error domains of the editors on the way to the collected branches stay as they were
+      return scope.leadsTo(ctx.getAbsolutePath());
+    }
     // Create a new "domain" for each error-aware editor
     HasEditorErrors<Q> asErrors = ctx.asHasEditorErrors();
     if (asErrors != null) {
+      int start = buffer.size();
       /*
        * Aliased editors (like ValueBoxEditorDecorator) will see the errors for
        * an editor at the same path that it occupies. If the editor that we're
@@ -95,12 +138,146 @@ class ErrorCollector extends EditorVisitor {
        * recycle the previous errors.
        */
       if (ctx.getAbsolutePath().equals(lastAddedPath)) {
-        errorStack.peek().removeAll(lastAdded);
-        errorStack.push(lastAdded);
-      } else {
-        errorStack.push(new ArrayList<EditorError>());
+        int enclosingStart = depth == 0 ? 0 : domainStarts[depth - 1];
+        if (lastAdded == null && lastAddedEnd == start && lastAddedStart >= enclosingStart) {
+          // Still the tail of the enclosing domain, just reassign them
+          start = lastAddedStart;
+        } else {
+          if (lastAdded == null) {
+            lastAdded = new ArrayList<EditorError>(buffer.subList(lastAddedStart, lastAddedEnd));
+          }
+          moveToTail(enclosingStart, lastAdded);
+          start = buffer.size() - lastAdded.size();
+        }
+      }
+      if (depth == domainStarts.length) {
+        int[] grown = new int[depth * 2];
+        System.arraycopy(domainStarts, 0, grown, 0, depth);
+        domainStarts = grown;
       }
+      domainStarts[depth++] = start;
     }
     return true;
   }
+
+  /**
+   * Delivers the errors in the given range of the buffer unless they are the same as the ones the
+   * editor last saw. Errors are the same when they have the same editor, path, message, value and
+   * user data.
+   */
+  private <T> void show(
+      AbstractEditorDelegate<?, ?> delegate, HasEditorErrors<T> asErrors, int start, int end) {
+    List<EditorError> shown = delegate.getShownErrors();
+    if (shown != null && shown.size() == end - start) {
+      // Usually nothing changed and nothing moved, so check in order first
+      int i = start;
+      while (i < end && isSameError(shown.get(i - start), buffer.get(i))) {
+        i++;
+      }
+      if (i == end) {
+        for (i = start; i < end; i++) {
+          buffer.get(i).setConsumed(shown.get(i - start).isConsumed());
+        }
+        return;
+      }
+    }
+
+    if (shown == null) {
+      List<EditorError> current = copy(start, end);
+      delegate.setShownErrors(current);
+      asErrors.showErrors(current);
+      return;
+    }
+
+    // Match each error against the one that was shown, in any order
+    boolean[] retained = new boolean[shown.size()];
+    List<EditorError> added = new ArrayList<EditorError>();
+    for (int i = start; i < end; i++) {
+      EditorError error = buffer.get(i);
+      int match = indexOfSameError(shown, retained, error);
+      if (match < 0) {
+        added.add(error);
+      } else {
+        retained[match] = true;
+        error.setConsumed(shown.get(match).isConsumed());
+      }
+    }
+    List<EditorError> removed = new ArrayList<EditorError>();
+    List<EditorError> nowShown = new ArrayList<EditorError>();
+    for (int i = 0, j = shown.size(); i < j; i++) {
+      (retained[i] ? nowShown : removed).add(shown.get(i));
+    }
+    if (added.isEmpty() && removed.isEmpty()) {
+      return;
+    }
+
+    if (asErrors instanceof HasEditorErrorChanges) {
+      nowShown.addAll(added);
+      delegate.setShownErrors(nowShown);
+      ((HasEditorErrorChanges<T>) asErrors)
+          .changeErrors(Collections.unmodifiableList(added), Collections.unmodifiableList(removed));
+    } else {
+      List<EditorError> current = copy(start, end);
+      delegate.setShownErrors(current);
+      asErrors.showErrors(current);
+    }
+  }
+
+  /**
+   * Removes the given errors from the buffer at or after {@code from} and appends them to the end.
+   */
+  private void moveToTail(int from, List<EditorError> errors) {
+    int kept = from;
+    for (int i = from, j = buffer.size(); i < j; i++) {
+      EditorError e = buffer.get(i);
+      if (!containsIdentical(errors, e)) {
+        buffer.set(kept++, e);
+      }
+    }
+    truncate(kept);
+    buffer.addAll(errors);
+  }
+
+  /**
+   * Editors may hold on to the lists they are shown, so they cannot be views of the buffer, and
+   * must not modify what is compared with the next errors.
+   */
+  private List<EditorError> copy(int start, int end) {
+    return start == end
+        ? NO_ERRORS
+        : Collections.unmodifiableList(new ArrayList<EditorError>(buffer.subList(start, end)));
+  }
+
+  /** Drops the end of the buffer one element at a time, avoiding a sublist view. */
+  private void truncate(int size) {
+    for (int i = buffer.size() - 1; i >= size; i--) {
+      buffer.remove(i);
+    }
+  }
+
+  private static int indexOfSameError(List<EditorError> errors, boolean[] skip, EditorError error) {
+    for (int i = 0, j = errors.size(); i < j; i++) {
+      if (!skip[i] && isSameError(errors.get(i), error)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static boolean isSameError(EditorError a, EditorError b) {
+    return a.getEditor() == b.getEditor()
+        && a.getAbsolutePath().equals(b.getAbsolutePath())
+        && Objects.equals(a.getMessage(), b.getMessage())
+        && Objects.equals(a.getValue(), b.getValue())
+        && Objects.equals(a.getUserData(), b.getUserData());
+  }
+
+  private static boolean containsIdentical(List<EditorError> errors, EditorError error) {
+    for (int i = 0, j = errors.size(); i < j; i++) {
+      if (errors.get(i) == error) {
+        return true;
+      }
+    }
+    return false;
+  }
 }
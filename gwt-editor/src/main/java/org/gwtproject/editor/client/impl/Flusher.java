@@ -15,6 +15,7 @@
  */
 package org.gwtproject.editor.client.impl;
 
+import java.util.Map;
 import java.util.Stack;
 import org.gwtproject.editor.client.*;
 
@@ -22,6 +23,52 @@ import org.gwtproject.editor.client.*;
 class Flusher extends EditorVisitor {
   private final Stack<AbstractEditorDelegate<?, ?>> delegateStack =
       new Stack<AbstractEditorDelegate<?, ?>>();
+  /** Limits the flush to some branches of the hierarchy, or {@code null} to flush all of it. */
+  private final PathScope scope;
+  /** Whether only the leaf values that differ from the baseline are written. */
+  private final boolean changesOnly;
+  /** The driver's DirtTracker, which also records the written values, or {@code null}. */
+  private final DirtTracker tracker;
+  /** The leaf values recorded by {@link #tracker}, or {@code null}. */
+  private final Map<LeafValueEditor<?>, Object> baseline;
+  /** Whether the delegates record the values of the leaves missing from {@link #baseline}. */
+  private final boolean snapshots;
+
+  private int skippedWrites;
+  private int writes;
+
+  public Flusher() {
+    this(null);
+  }
+
+  Flusher(PathScope scope) {
+    this(scope, false, null, false);
+  }
+
+  /**
+   * Creates a Flusher that only writes the leaf values which differ from the baseline if {@code
+   * changesOnly} is set. The baseline is the last value written according to {@code tracker}, else
+   * the value it recorded, or, for the leaves it has no value for when {@code snapshots} is set,
+   * the snapshot kept by delegates generated with dirty checks. The values written are recorded in
+   * {@code tracker}.
+   */
+  Flusher(PathScope scope, boolean changesOnly, DirtTracker tracker, boolean snapshots) {
+    this.scope = scope;
+    this.changesOnly = changesOnly;
+    this.tracker = tracker;
+    this.baseline = tracker == null ? null : tracker.getLeafValues();
+    this.snapshots = snapshots;
+  }
+
+  /** Returns the number of leaf values that were not written because they were unchanged. */
+  int getSkippedWrites() {
+    return skippedWrites;
+  }
+
+  /** Returns the number of leaf values that were written. */
+  int getWrites() {
+    return writes;
+  }
 
   @Override
   public <Q> void endVisit(EditorContext<Q> ctx) {
@@ -36,6 +83,11 @@ class Flusher extends EditorVisitor {
     }
     assert delegate != null;
 
+    if (scope != null && !scope.contains(ctx.getAbsolutePath())) {
+      // An editor on the way to a flushed branch
+      return;
+    }
+
     if (asValue != null) {
       if (delegate.shouldFlush()) {
         asValue.flush();
@@ -45,8 +97,34 @@ class Flusher extends EditorVisitor {
     // Pull value from LeafValueEditors and update edited object
     LeafValueEditor<Q> asLeaf = ctx.asLeafValueEditor();
     if (delegate.shouldFlush() && asLeaf != null && ctx.canSetInModel()) {
-      ctx.setInModel(asLeaf.getValue());
+      Q value = asLeaf.getValue();
+      if (changesOnly && !isChanged(ctx, delegate, asLeaf, value)) {
+        skippedWrites++;
+      } else {
+        ctx.setInModel(value);
+        writes++;
+        if (changesOnly && tracker != null) {
+          tracker.recordWrite(ctx, asLeaf, value);
+        }
+      }
+    }
+  }
+
+  private boolean isChanged(
+      EditorContext<?> ctx,
+      AbstractEditorDelegate<?, ?> delegate,
+      LeafValueEditor<?> asLeaf,
+      Object value) {
+    if (tracker != null && tracker.isWritten(asLeaf)) {
+      return tracker.isChangedSinceWrite(ctx, asLeaf, value);
+    }
+    if (baseline != null && (baseline.containsKey(asLeaf) || !snapshots)) {
+      return !baseline.containsKey(asLeaf) || !LeafSnapshot.matches(baseline.get(asLeaf), value);
     }
+    // An editor with a delegate records its own value, otherwise the enclosing delegate does
+    return ctx.getEditorDelegate() != null
+        ? delegate.isOwnValueChanged()
+        : delegate.isLeafValueChanged(ctx);
   }
 
   @Override
@@ -55,6 +133,6 @@ class Flusher extends EditorVisitor {
     if (editorDelegate != null) {
       delegateStack.push((AbstractEditorDelegate<?, ?>) editorDelegate);
     }
-    return true;
+    return scope == null || scope.reaches(ctx.getAbsolutePath());
   }
 }
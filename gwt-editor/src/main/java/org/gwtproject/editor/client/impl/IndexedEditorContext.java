@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2018 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gwtproject.editor.client.impl;
+
+import org.gwtproject.editor.client.Editor;
+
+/**
+ * The context of a sub-editor that asks the enclosing delegate to read and write the edited
+ * property, which it looks up by index. Generated delegates use it instead of one generated context
+ * type per property when code size matters more than an extra switch per access.
+ *
+ * <p>Only delegates which {@link AbstractEditorDelegate#hasPropertyAccessors() have property
+ * accessors} can own an IndexedEditorContext.
+ *
+ * @param <T> the type of data being edited
+ */
+public class IndexedEditorContext<T> extends AbstractEditorContext<T> {
+  private final Class<T> editedType;
+  private final int index;
+  private final AbstractEditorDelegate<?, ?> owner;
+
+  public IndexedEditorContext(
+      AbstractEditorDelegate<?, ?> owner,
+      int index,
+      Class<T> editedType,
+      Editor<T> editor,
+      String path) {
+    super(editor, path);
+    if (!owner.hasPropertyAccessors()) {
+      throw new IllegalArgumentException("No property accessors: " + owner.getClass().getName());
+    }
+    this.owner = owner;
+    this.index = index;
+    this.editedType = editedType;
+  }
+
+  @Override
+  public boolean canSetInModel() {
+    return owner.canSetPropertyValue(index);
+  }
+
+  /**
+   * Returns {@code value}, since the cast cannot be checked in client code. See {@link
+   * RootEditorContext#checkAssignment(Object)}.
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public T checkAssignment(Object value) {
+    return (T) value;
+  }
+
+  @Override
+  public Class<T> getEditedType() {
+    return editedType;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public T getFromModel() {
+    return (T) owner.getPropertyValue(index);
+  }
+
+  @Override
+  public void rebind(String path) {
+    super.rebind(path);
+  }
+
+  @Override
+  public void setInModel(T data) {
+    owner.setPropertyValue(index, data);
+  }
+}
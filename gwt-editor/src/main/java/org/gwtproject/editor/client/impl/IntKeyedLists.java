@@ -0,0 +1,131 @@
+/*
+ * Copyright © 2018 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gwtproject.editor.client.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An open-addressing hash table from {@code int} keys to lists of values, used by {@link
+ * DelegateMap} to index delegates by numeric id without boxing the ids.
+ *
+ * @param <V> the type of the values
+ */
+class IntKeyedLists<V> {
+  private int[] keys = new int[16];
+  private int size;
+  /** The list for each slot, {@code null} for an empty slot. */
+  private Object[] values = new Object[16];
+
+  public void add(int key, V value) {
+    int slot = find(key);
+    if (values[slot] == null) {
+      if ((size + 1) * 4 > keys.length * 3) {
+        grow();
+        slot = find(key);
+      }
+      keys[slot] = key;
+      values[slot] = new ArrayList<V>();
+      size++;
+    }
+    listAt(slot).add(value);
+  }
+
+  public List<V> get(int key) {
+    int slot = find(key);
+    return values[slot] == null ? null : listAt(slot);
+  }
+
+  /** Removes one occurrence of {@code value}, compared by identity. */
+  public void remove(int key, V value) {
+    int slot = find(key);
+    if (values[slot] == null) {
+      return;
+    }
+    List<V> list = listAt(slot);
+    for (int i = 0, j = list.size(); i < j; i++) {
+      if (list.get(i) == value) {
+        list.remove(i);
+        break;
+      }
+    }
+    if (list.isEmpty()) {
+      removeSlot(slot);
+    }
+  }
+
+  public List<List<V>> values() {
+    List<List<V>> toReturn = new ArrayList<List<V>>(size);
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] != null) {
+        toReturn.add(listAt(i));
+      }
+    }
+    return toReturn;
+  }
+
+  /** Returns the slot holding {@code key}, or the empty slot where it would be inserted. */
+  private int find(int key) {
+    int mask = keys.length - 1;
+    int slot = hash(key) & mask;
+    while (values[slot] != null && keys[slot] != key) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<V> listAt(int slot) {
+    return (List<V>) values[slot];
+  }
+
+  private void grow() {
+    int[] oldKeys = keys;
+    Object[] oldValues = values;
+    keys = new int[oldKeys.length * 2];
+    values = new Object[oldKeys.length * 2];
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldValues[i] != null) {
+        int slot = find(oldKeys[i]);
+        keys[slot] = oldKeys[i];
+        values[slot] = oldValues[i];
+      }
+    }
+  }
+
+  private int hash(int key) {
+    int h = key * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  /** Empties a slot, moving back the following entries of its probe sequence. */
+  private void removeSlot(int slot) {
+    int mask = keys.length - 1;
+    int hole = slot;
+    values[hole] = null;
+    for (int i = (hole + 1) & mask; values[i] != null; i = (i + 1) & mask) {
+      int home = hash(keys[i]) & mask;
+      // Move the entry if the hole lies between its home slot and its current slot
+      if (((i - home) & mask) >= ((i - hole) & mask)) {
+        keys[hole] = keys[i];
+        values[hole] = values[i];
+        values[i] = null;
+        hole = i;
+      }
+    }
+    size--;
+  }
+}
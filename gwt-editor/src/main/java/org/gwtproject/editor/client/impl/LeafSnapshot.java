@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2018 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gwtproject.editor.client.impl;
+
+import java.util.Map;
+import java.util.Objects;
+import org.gwtproject.editor.client.EditorContext;
+import org.gwtproject.editor.client.SnapshotStrategy;
+
+/**
+ * Recorded in place of a leaf value whose type has a {@link SnapshotStrategy}. The recorded values
+ * of other leaves are the values themselves, so they must be compared with {@link #matches}.
+ */
+final class LeafSnapshot {
+  private final SnapshotStrategy strategy;
+  private final Object key;
+
+  private LeafSnapshot(SnapshotStrategy strategy, Object key) {
+    this.strategy = strategy;
+    this.key = key;
+  }
+
+  /**
+   * Returns what to record for the value of the leaf editor of {@code ctx}, which is the value
+   * itself unless {@code strategies} has a strategy for its edited type.
+   */
+  static Object record(
+      Map<Class<?>, SnapshotStrategy> strategies, EditorContext<?> ctx, Object value) {
+    if (strategies == null) {
+      return value;
+    }
+    SnapshotStrategy strategy = strategies.get(ctx.getEditedType());
+    return strategy == null ? value : new LeafSnapshot(strategy, strategy.keyOf(value));
+  }
+
+  /** Returns {@code true} if {@code value} is the same as the one that was recorded. */
+  static boolean matches(Object recorded, Object value) {
+    if (recorded instanceof LeafSnapshot) {
+      LeafSnapshot snapshot = (LeafSnapshot) recorded;
+      return Objects.equals(snapshot.key, snapshot.strategy.keyOf(value));
+    }
+    return Objects.equals(recorded, value);
+  }
+
+  /** Returns {@code true} if the recorded value is the value itself rather than a key. */
+  static boolean isValue(Object recorded) {
+    return !(recorded instanceof LeafSnapshot);
+  }
+}
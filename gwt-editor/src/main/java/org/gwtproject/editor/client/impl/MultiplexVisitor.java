@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2018 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gwtproject.editor.client.impl;
+
+import org.gwtproject.editor.client.EditorContext;
+import org.gwtproject.editor.client.EditorVisitor;
+
+/**
+ * Runs several visitors in a single traversal of an Editor hierarchy. At every node, the visitors
+ * are called in the order in which they were passed to the constructor, for both {@link
+ * #visit(EditorContext)} and {@link #endVisit(EditorContext)}. Each visitor sees exactly the nodes
+ * it would see if it traversed the hierarchy on its own: when a visitor declines to descend into an
+ * Editor, it is not called again until the traversal leaves that Editor.
+ */
+public class MultiplexVisitor extends EditorVisitor {
+  private final EditorVisitor[] visitors;
+  /** The depth at which each visitor declined to descend, or -1 while it is receiving nodes. */
+  private final int[] prunedAt;
+
+  private int depth;
+
+  public MultiplexVisitor(EditorVisitor... visitors) {
+    this.visitors = visitors;
+    prunedAt = new int[visitors.length];
+    for (int i = 0; i < prunedAt.length; i++) {
+      prunedAt[i] = -1;
+    }
+  }
+
+  @Override
+  public <T> void endVisit(EditorContext<T> ctx) {
+    depth--;
+    for (int i = 0; i < visitors.length; i++) {
+      if (prunedAt[i] == depth) {
+        prunedAt[i] = -1;
+      } else if (prunedAt[i] != -1) {
+        continue;
+      }
+      visitors[i].endVisit(ctx);
+    }
+  }
+
+  @Override
+  public <T> boolean visit(EditorContext<T> ctx) {
+    boolean descend = false;
+    for (int i = 0; i < visitors.length; i++) {
+      if (prunedAt[i] != -1) {
+        continue;
+      }
+      if (visitors[i].visit(ctx)) {
+        descend = true;
+      } else {
+        prunedAt[i] = depth;
+      }
+    }
+    depth++;
+    return descend;
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2018 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gwtproject.editor.client.impl;
+
+import org.gwtproject.editor.client.EditorContext;
+import org.gwtproject.editor.client.EditorVisitor;
+
+/**
+ * A set of editor paths that limits a traversal to the editors at or below those paths. An empty
+ * path, or no path at all, selects the whole hierarchy.
+ */
+class PathScope {
+  /** Returns a scope for the given paths, or {@code null} if the whole hierarchy is selected. */
+  static PathScope of(String... paths) {
+    if (paths == null || paths.length == 0) {
+      return null;
+    }
+    for (String path : paths) {
+      if (path.isEmpty()) {
+        return null;
+      }
+    }
+    return new PathScope(paths);
+  }
+
+  /**
+   * Returns a visitor that passes only the editors inside {@code scope} to {@code visitor}, while
+   * still descending towards them. Returns {@code visitor} itself if {@code scope} is {@code null}.
+   */
+  static EditorVisitor limit(final PathScope scope, final EditorVisitor visitor) {
+    if (scope == null) {
+      return visitor;
+    }
+    return new EditorVisitor() {
+      @Override
+      public <T> void endVisit(EditorContext<T> ctx) {
+        if (scope.contains(ctx.getAbsolutePath())) {
+          visitor.endVisit(ctx);
+        }
+      }
+
+      @Override
+      public <T> boolean visit(EditorContext<T> ctx) {
+        if (scope.contains(ctx.getAbsolutePath())) {
+          return visitor.visit(ctx);
+        }
+        return scope.leadsTo(ctx.getAbsolutePath());
+      }
+    };
+  }
+
+  private static boolean isBoundary(String path, int index) {
+    char c = path.charAt(index);
+    return c == '.' || c == '[';
+  }
+
+  private final String[] paths;
+
+  private PathScope(String[] paths) {
+    this.paths = paths;
+  }
+
+  /** Returns {@code true} if the editor at {@code path} is at or below one of the paths. */
+  boolean contains(String path) {
+    for (String p : paths) {
+      if (path.startsWith(p) && (path.length() == p.length() || isBoundary(path, p.length()))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Returns {@code true} if one of the paths is below the editor at {@code path}. */
+  boolean leadsTo(String path) {
+    if (path.isEmpty()) {
+      return true;
+    }
+    for (String p : paths) {
+      if (p.length() > path.length() && p.startsWith(path) && isBoundary(p, path.length())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Returns {@code true} if the editor at {@code path} should be visited. */
+  boolean reaches(String path) {
+    return contains(path) || leadsTo(path);
+  }
+}
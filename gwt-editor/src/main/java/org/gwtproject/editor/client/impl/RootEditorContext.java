@@ -63,6 +63,6 @@ public class RootEditorContext<T> extends AbstractEditorContext<T> {
   @Override
   @SuppressWarnings("unchecked")
   public void setInModel(T data) {
-    ((AbstractEditorDelegate<T, ?>) getEditorDelegate()).setObject(data);
+    ((AbstractEditorDelegate<T, ?>) getEditorDelegate()).replaceObject(data);
   }
 }
@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2018 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gwtproject.editor.client.impl;
+
+import org.gwtproject.editor.client.Editor;
+import org.gwtproject.editor.client.EditorChange;
+
+/** Used by {@link ChangeCollector}. */
+class SimpleChange implements EditorChange {
+  private final String absolutePath;
+  private final Editor<?> editor;
+  private final Object oldValue;
+  private final Object newValue;
+
+  SimpleChange(String absolutePath, Editor<?> editor, Object oldValue, Object newValue) {
+    this.absolutePath = absolutePath;
+    this.editor = editor;
+    this.oldValue = oldValue;
+    this.newValue = newValue;
+  }
+
+  public String getAbsolutePath() {
+    return absolutePath;
+  }
+
+  public Editor<?> getEditor() {
+    return editor;
+  }
+
+  public Object getOldValue() {
+    return oldValue;
+  }
+
+  public Object getNewValue() {
+    return newValue;
+  }
+
+  @Override
+  public String toString() {
+    return absolutePath + ": " + oldValue + " -> " + newValue;
+  }
+}
@@ -18,6 +18,7 @@ package org.gwtproject.editor.client.impl;
 import java.util.Iterator;
 import java.util.List;
 import javax.validation.ConstraintViolation;
+import javax.validation.Path;
 import org.gwtproject.editor.client.Editor;
 import org.gwtproject.editor.client.EditorDriver;
 import org.gwtproject.editor.client.impl.DelegateMap.KeyMethod;
@@ -59,8 +60,113 @@ public abstract class SimpleViolation {
     }
   }
 
+  /**
+   * Finds the deepest node of the path trie holding delegates or Editors along the path of a
+   * violation. The path nodes of the violation are used when available, so that the common case of
+   * a fully matched path does not allocate.
+   *
+   * <p>Only the nodes ending a property path, such as {@code people} in {@code people.size} or
+   * {@code people[5]} in {@code people[5].name}, can match. A missing list element thus falls back
+   * past its list, like the parent paths that were tried one at a time before.
+   */
+  static class PathResolver {
+    /** The node of the delegate the violation is relative to. */
+    DelegateMap.PathNode base;
+    /** Whether every element of the path was matched by {@link #match}. */
+    boolean complete;
+    /** The deepest node holding delegates or Editors. */
+    DelegateMap.PathNode match;
+
+    /**
+     * Returns the part of the absolute path of the violation below {@link #match}, including the
+     * leading separator.
+     */
+    String getAdditionalPath(SimpleViolation error) {
+      if (complete && match != base) {
+        return "";
+      }
+      String path = error.getPath();
+      String absolutePath = base.path.length() > 0 ? base.path + "." + path : path;
+      return absolutePath.substring(match.path.length());
+    }
+
+    void resolve(DelegateMap.PathNode base, SimpleViolation error) {
+      this.base = base;
+      match = base;
+      complete = false;
+      Iterable<Path.Node> pathNodes = error.getPathNodes();
+      Iterator<Path.Node> it = pathNodes == null ? null : pathNodes.iterator();
+      if (it == null) {
+        resolve(error.getPath());
+      } else {
+        resolve(it);
+      }
+    }
+
+    private void resolve(Iterator<Path.Node> it) {
+      DelegateMap.PathNode node = base;
+      // The last named node, which is only a match if no index follows it
+      DelegateMap.PathNode named = null;
+      while (it.hasNext()) {
+        Path.Node element = it.next();
+        if (!element.isInIterable() && named != null) {
+          match = named;
+        }
+        named = null;
+        if (element.isInIterable()) {
+          Integer index = element.getIndex();
+          if (index != null) {
+            node = node.child(index);
+          } else {
+            Object key = element.getKey();
+            node = node.child("[" + (key == null ? "" : key) + "]");
+          }
+          if (node == null) {
+            return;
+          }
+          if (node.hasEntries()) {
+            match = node;
+          }
+        }
+        String name = element.getName();
+        if (name != null) {
+          node = node.child(name);
+          if (node == null) {
+            return;
+          }
+          if (node.hasEntries()) {
+            named = node;
+          }
+        }
+      }
+      if (named != null) {
+        match = named;
+      }
+      complete = match == node;
+    }
+
+    private void resolve(String path) {
+      DelegateMap.PathNode node = base;
+      for (int i = 0, end; i < path.length(); i = end) {
+        if (path.charAt(i) == '.') {
+          end = i + 1;
+          continue;
+        }
+        end = DelegateMap.PathNode.segmentEnd(path, i);
+        node = node.child(path.substring(i, end));
+        if (node == null) {
+          return;
+        }
+        if (node.hasEntries() && (end == path.length() || path.charAt(end) != '[')) {
+          match = node;
+        }
+      }
+    }
+  }
+
   /** Adapts the ConstraintViolation interface to the SimpleViolation interface. */
   static class SimpleViolationAdapter extends SimpleViolation {
+    private String path;
     private final ConstraintViolation<?> v;
 
     public SimpleViolationAdapter(ConstraintViolation<?> v) {
@@ -83,7 +189,15 @@ public abstract class SimpleViolation {
        * TODO(bobv,nchalko): Determine the correct way to extract this
        * information from the ConstraintViolation.
        */
-      return v.getPropertyPath().toString();
+      if (path == null) {
+        path = v.getPropertyPath().toString();
+      }
+      return path;
+    }
+
+    @Override
+    public Iterable<Path.Node> getPathNodes() {
+      return v.getPropertyPath();
     }
 
     @Override
@@ -110,7 +224,18 @@ public abstract class SimpleViolation {
       return;
     }
 
-    DelegateMap delegateMap = DelegateMap.of(driver, keyMethod);
+    pushViolations(violations, DelegateMap.of(driver, keyMethod));
+  }
+
+  /**
+   * Maps an abstract representation of a violation into the appropriate EditorDelegate, using an
+   * existing index of the Editor hierarchy.
+   *
+   * @param violations the violations list
+   * @param delegateMap the index of the Editor hierarchy
+   */
+  public static void pushViolations(Iterable<SimpleViolation> violations, DelegateMap delegateMap) {
+    PathResolver resolver = new PathResolver();
 
     // For each violation
     for (SimpleViolation error : violations) {
@@ -121,82 +246,42 @@ public abstract class SimpleViolation {
         // For each delegate editing some record...
         for (AbstractEditorDelegate<?, ?> baseDelegate : delegateList) {
 
-          // compute its base path in the hierarchy...
-          String basePath = baseDelegate.getPath();
-
-          // and the absolute path of the leaf editor receiving the error.
-          String absolutePath = (basePath.length() > 0 ? basePath + "." : "") + error.getPath();
-          final String originalAbsolutePath = absolutePath;
-          while (true) {
-            if (processLeafDelegates(delegateMap, originalAbsolutePath, absolutePath, error)) {
-              break;
-            } else if (processEditors(delegateMap, baseDelegate, absolutePath, error)) {
-              break;
-            } else {
-              // This is guaranteed to never happen because we should always
-              // process a delegate/editor if the absolutePath is empty.
-              // Still, we have the check here to prevent an infinite
-              // loop if something goes wrong.
-              if (absolutePath.isEmpty()) {
-                throw new IllegalStateException("No editor: " + originalAbsolutePath);
-              }
-              absolutePath = getParentPath(absolutePath);
-            }
+          // find the nearest editor of the property below its base path in the hierarchy.
+          DelegateMap.PathNode base = delegateMap.getNode(baseDelegate.getPath());
+          if (base == null) {
+            // This is guaranteed to never happen because the delegate is
+            // registered at its own path.
+            throw new IllegalStateException("No editor: " + baseDelegate.getPath());
+          }
+          resolver.resolve(base, error);
+          DelegateMap.PathNode match = resolver.match;
+          if (match.delegates != null) {
+            processLeafDelegates(match.delegates, resolver.getAdditionalPath(error), error);
+          } else {
+            processEditors(match.editors, baseDelegate, error);
           }
         }
       }
     }
   }
 
-  /**
-   * Returns the path with everything after the last '.' stripped off, or "" if there was no '.' in
-   * the path.
-   */
-  private static String getParentPath(String absolutePath) {
-    // Traverse upwards in the path to the parents in order
-    // to report the error to the nearest valid parent.
-    int dotIdx = absolutePath.lastIndexOf('.');
-    if (dotIdx > 0) {
-      return absolutePath.substring(0, dotIdx);
-    }
-    return "";
-  }
-
-  /** Records an error in any editors that match the path, returning true if any editors matched. */
-  private static boolean processEditors(
-      DelegateMap delegateMap,
-      AbstractEditorDelegate<?, ?> baseDelegate,
-      String absolutePath,
-      SimpleViolation error) {
-    List<Editor<?>> editors = delegateMap.getEditorByPath(absolutePath);
-    if (editors == null) {
-      return false;
-    }
+  /** Records an error in the editors at the resolved path. */
+  private static void processEditors(
+      List<Editor<?>> editors, AbstractEditorDelegate<?, ?> baseDelegate, SimpleViolation error) {
     // No EditorDelegate to attach it to, so record on the baseDelegate
     // with the appropriate editor & path.
     for (Editor<?> editor : editors) {
       baseDelegate.recordError(
           error.getMessage(), null, error.getUserDataObject(), error.getPath(), editor);
     }
-    return true;
   }
 
   /**
-   * Records an error in any delegates that match the {@code absolutePath}, returning true if any
-   * matched. ({@code originalAbsolutePath} is not used for finding delegates, but is instead used
-   * to determine how to record the error.)
+   * Records an error in the delegates at the resolved path. ({@code addlPath} is the part of the
+   * absolute path of the violation below the delegates.)
    */
-  private static boolean processLeafDelegates(
-      DelegateMap delegateMap,
-      String originalAbsolutePath,
-      String absolutePath,
-      SimpleViolation error) {
-    // Find the leaf editor's delegate.
-    List<AbstractEditorDelegate<?, ?>> leafDelegates = delegateMap.getDelegatesByPath(absolutePath);
-    if (leafDelegates == null) {
-      return false;
-    }
-    String addlPath = originalAbsolutePath.substring(absolutePath.length());
+  private static void processLeafDelegates(
+      List<AbstractEditorDelegate<?, ?>> leafDelegates, String addlPath, SimpleViolation error) {
     for (AbstractEditorDelegate<?, ?> delegate : leafDelegates) {
       // If this is the original path value, don't record the additional path.
       if (addlPath.isEmpty()) {
@@ -207,7 +292,6 @@ public abstract class SimpleViolation {
             error.getMessage(), null, error.getUserDataObject(), addlPath, delegate.getEditor());
       }
     }
-    return true;
   }
 
   /** Typically constructed via factory methods. */
@@ -234,6 +318,17 @@ public abstract class SimpleViolation {
    */
   public abstract String getPath();
 
+  /**
+   * Return the nodes of the property path, which allow it to be resolved without parsing {@link
+   * #getPath()}. The default implementation returns {@code null}, in which case the dotted path is
+   * used.
+   *
+   * @return the path nodes, or {@code null}
+   */
+  public Iterable<Path.Node> getPathNodes() {
+    return null;
+  }
+
   /**
    * An object that should be available from {@link
    * org.gwtproject.editor.client.EditorError#getUserData()}.
@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2018 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gwtproject.editor.client.impl;
+
+import java.util.Stack;
+import org.gwtproject.editor.client.*;
+
+/**
+ * Makes the current values of some branches of the Editor hierarchy the baseline of the dirty
+ * checks generated into the delegates.
+ */
+class Snapshotter extends EditorVisitor {
+  private final Stack<AbstractEditorDelegate<?, ?>> delegateStack =
+      new Stack<AbstractEditorDelegate<?, ?>>();
+  /** Limits the snapshot to some branches of the hierarchy, or {@code null} to take all of it. */
+  private final PathScope scope;
+  /** Follows the observable leaves, which the delegates do not compare. */
+  private final DirtTracker tracker;
+
+  Snapshotter(PathScope scope, DirtTracker tracker) {
+    this.scope = scope;
+    this.tracker = tracker;
+  }
+
+  @Override
+  public <Q> void endVisit(EditorContext<Q> ctx) {
+    if (ctx.getEditorDelegate() != null) {
+      delegateStack.pop();
+    }
+  }
+
+  @Override
+  public <Q> boolean visit(EditorContext<Q> ctx) {
+    AbstractEditorDelegate<?, ?> delegate = (AbstractEditorDelegate<?, ?>) ctx.getEditorDelegate();
+    if (delegate != null) {
+      delegateStack.push(delegate);
+    }
+    if (scope == null || scope.contains(ctx.getAbsolutePath())) {
+      // A delegate records everything below it, otherwise the enclosing one records the leaf
+      if (delegate != null) {
+        delegate.setDirtTracker(tracker);
+        delegate.snapshotValues();
+      } else if (!delegateStack.isEmpty()) {
+        delegateStack.peek().snapshotLeafValue(ctx);
+      }
+      return false;
+    }
+    return scope.leadsTo(ctx.getAbsolutePath());
+  }
+}
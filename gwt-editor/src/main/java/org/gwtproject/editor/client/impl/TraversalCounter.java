@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2018 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gwtproject.editor.client.impl;
+
+import org.gwtproject.editor.client.EditorContext;
+import org.gwtproject.editor.client.EditorVisitor;
+
+/**
+ * Measures a driver operation for an {@link org.gwtproject.editor.client.EditorDriverMetrics}: its
+ * wall time since the counter was created, the contexts reached by the traversals it wraps, and the
+ * leaf values read and written by the delegates without a traversal.
+ */
+class TraversalCounter {
+  /** GWT does not emulate {@link System#nanoTime()}. */
+  private final long start = System.currentTimeMillis();
+
+  private int contexts;
+  private int leaves;
+  private int writes;
+
+  /**
+   * Returns a visitor which counts the contexts that {@code visitor} is called for, without
+   * changing where the traversal goes.
+   */
+  EditorVisitor count(final EditorVisitor visitor) {
+    return new EditorVisitor() {
+      @Override
+      public <T> void endVisit(EditorContext<T> ctx) {
+        visitor.endVisit(ctx);
+      }
+
+      @Override
+      public <T> boolean visit(EditorContext<T> ctx) {
+        contexts++;
+        if (ctx.asLeafValueEditor() != null) {
+          leaves++;
+        }
+        return visitor.visit(ctx);
+      }
+    };
+  }
+
+  /** Counts a leaf value read without visiting its context. */
+  void countLeaf() {
+    leaves++;
+  }
+
+  /** Counts a leaf value written into the model without visiting its context. */
+  void countWrite() {
+    writes++;
+  }
+
+  int getContexts() {
+    return contexts;
+  }
+
+  double getElapsedMillis() {
+    return System.currentTimeMillis() - start;
+  }
+
+  int getLeaves() {
+    return leaves;
+  }
+
+  int getWrites() {
+    return writes;
+  }
+}
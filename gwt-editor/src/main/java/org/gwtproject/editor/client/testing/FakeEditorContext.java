@@ -23,6 +23,7 @@ import org.gwtproject.editor.client.*;
  * @param <T> the type of data not being edited
  */
 public class FakeEditorContext<T> implements EditorContext<T> {
+  private boolean halted;
 
   /** Returns {@code null}. */
   public CompositeEditor<T, ?, ?> asCompositeEditor() {
@@ -85,6 +86,16 @@ public class FakeEditorContext<T> implements EditorContext<T> {
     return null;
   }
 
+  /** Records that the context was halted. */
+  public void halt() {
+    halted = true;
+  }
+
+  /** Returns {@code true} once {@link #halt()} has been called. */
+  public boolean isHalted() {
+    return halted;
+  }
+
   /** A no-op. */
   public void setInModel(T data) {}
 
@@ -28,10 +28,13 @@ import org.gwtproject.editor.client.CompositeEditor;
 public class MockEditorChain<C> implements CompositeEditor.EditorChain<C, FakeLeafValueEditor<C>> {
   private Map<FakeLeafValueEditor<C>, Boolean> attached =
       new HashMap<FakeLeafValueEditor<C>, Boolean>();
+  private int attachCount;
+  private int pathUpdateCount;
 
   public void attach(C object, FakeLeafValueEditor<C> subEditor) {
     subEditor.setValue(object);
     attached.put(subEditor, true);
+    attachCount++;
   }
 
   public void detach(FakeLeafValueEditor<C> subEditor) {
@@ -39,6 +42,24 @@ public class MockEditorChain<C> implements CompositeEditor.EditorChain<C, FakeLe
     attached.put(subEditor, false);
   }
 
+  /**
+   * Returns the number of calls to {@link #attach}.
+   *
+   * @return int
+   */
+  public int getAttachCount() {
+    return attachCount;
+  }
+
+  /**
+   * Returns the number of calls to {@link #updatePath}.
+   *
+   * @return int
+   */
+  public int getPathUpdateCount() {
+    return pathUpdateCount;
+  }
+
   public C getValue(FakeLeafValueEditor<C> subEditor) {
     return subEditor.getValue();
   }
@@ -46,4 +67,8 @@ public class MockEditorChain<C> implements CompositeEditor.EditorChain<C, FakeLe
   public boolean isAttached(FakeLeafValueEditor<C> subEditor) {
     return attached.containsKey(subEditor) && attached.get(subEditor);
   }
+
+  public void updatePath(FakeLeafValueEditor<C> subEditor) {
+    pathUpdateCount++;
+  }
 }
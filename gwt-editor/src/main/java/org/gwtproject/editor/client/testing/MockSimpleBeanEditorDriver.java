@@ -16,12 +16,17 @@
 package org.gwtproject.editor.client.testing;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import javax.validation.ConstraintViolation;
 import org.gwtproject.editor.client.Editor;
+import org.gwtproject.editor.client.EditorChange;
+import org.gwtproject.editor.client.EditorDriverMetrics;
 import org.gwtproject.editor.client.EditorError;
 import org.gwtproject.editor.client.EditorVisitor;
 import org.gwtproject.editor.client.SimpleBeanEditorDriver;
+import org.gwtproject.editor.client.SnapshotStrategy;
 
 /**
  * A no-op implementation of {@link SimpleBeanEditorDriver} that records its inputs.
@@ -33,7 +38,11 @@ public class MockSimpleBeanEditorDriver<T, E extends Editor<T>>
     implements SimpleBeanEditorDriver<T, E> {
 
   private E editor;
+  private EditorDriverMetrics metrics;
   private T object;
+  private final Map<Class<?>, SnapshotStrategy> snapshotStrategies =
+      new HashMap<Class<?>, SnapshotStrategy>();
+  private boolean writeChangesOnly;
 
   /**
    * A no-op method.
@@ -42,6 +51,13 @@ public class MockSimpleBeanEditorDriver<T, E extends Editor<T>>
    */
   public void accept(EditorVisitor visitor) {}
 
+  /**
+   * A no-op method.
+   *
+   * @param paths the paths to activate
+   */
+  public void activate(String... paths) {}
+
   /**
    * Records <code>object</code>.
    *
@@ -60,6 +76,25 @@ public class MockSimpleBeanEditorDriver<T, E extends Editor<T>>
     return object;
   }
 
+  /**
+   * Returns <code>null</code> or the last value provided to {@link #edit}.
+   *
+   * @param paths the paths to flush, which are ignored
+   * @return T
+   */
+  public T flush(String... paths) {
+    return object;
+  }
+
+  /**
+   * Returns an empty list.
+   *
+   * @return List
+   */
+  public List<EditorChange> flushChanges() {
+    return Collections.emptyList();
+  }
+
   /**
    * Returns <code>null</code> or the last value provided to {@link #initialize} .
    *
@@ -78,6 +113,35 @@ public class MockSimpleBeanEditorDriver<T, E extends Editor<T>>
     return Collections.emptyList();
   }
 
+  /**
+   * Returns <code>null</code> or the last value provided to {@link #setMetrics}.
+   *
+   * @return EditorDriverMetrics
+   */
+  public EditorDriverMetrics getMetrics() {
+    return metrics;
+  }
+
+  /**
+   * Returns {@code 0}.
+   *
+   * @return int
+   */
+  public int getSkippedWrites() {
+    return 0;
+  }
+
+  /**
+   * Returns <code>null</code> or the last strategy provided to {@link #setSnapshotStrategy} for
+   * <code>leafType</code>.
+   *
+   * @param leafType the edited type of the leaf editors
+   * @return SnapshotStrategy
+   */
+  public SnapshotStrategy getSnapshotStrategy(Class<?> leafType) {
+    return snapshotStrategies.get(leafType);
+  }
+
   /**
    * Returns <code>null</code> or the last value provided to {@link #edit}.
    *
@@ -114,6 +178,22 @@ public class MockSimpleBeanEditorDriver<T, E extends Editor<T>>
     return false;
   }
 
+  /**
+   * Returns the last value provided to {@link #setWriteChangesOnly}.
+   *
+   * @return boolean
+   */
+  public boolean isWriteChangesOnly() {
+    return writeChangesOnly;
+  }
+
+  /**
+   * A no-op method.
+   *
+   * @param paths the paths to refresh
+   */
+  public void refresh(String... paths) {}
+
   /**
    * A no-op method that always returns false.
    *
@@ -123,4 +203,36 @@ public class MockSimpleBeanEditorDriver<T, E extends Editor<T>>
   public boolean setConstraintViolations(Iterable<ConstraintViolation<?>> violations) {
     return false;
   }
+
+  /**
+   * Records <code>metrics</code>.
+   *
+   * @param metrics the metrics, which are never reported to
+   */
+  public void setMetrics(EditorDriverMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  /**
+   * Records <code>strategy</code> for <code>leafType</code>.
+   *
+   * @param leafType the edited type of the leaf editors
+   * @param strategy the strategy, or <code>null</code> to forget it
+   */
+  public void setSnapshotStrategy(Class<?> leafType, SnapshotStrategy strategy) {
+    if (strategy == null) {
+      snapshotStrategies.remove(leafType);
+    } else {
+      snapshotStrategies.put(leafType, strategy);
+    }
+  }
+
+  /**
+   * Records <code>writeChangesOnly</code>.
+   *
+   * @param writeChangesOnly whether flushes should skip unchanged values
+   */
+  public void setWriteChangesOnly(boolean writeChangesOnly) {
+    this.writeChangesOnly = writeChangesOnly;
+  }
 }